@@ -25,6 +25,14 @@ android {
             )
         }
     }
+    buildFeatures {
+        // BuildConfig.DEBUG gates the draw timing logs
+        buildConfig = true
+    }
+    androidResources {
+        // The endgame table is memory-mapped, which needs it stored uncompressed
+        noCompress += "ltb"
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
@@ -33,6 +41,7 @@ android {
 
 dependencies {
 
+    implementation(project(":engine"))
     implementation(libs.appcompat)
     implementation(libs.material)
     implementation(libs.activity)
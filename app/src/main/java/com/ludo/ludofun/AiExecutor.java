@@ -0,0 +1,95 @@
+package com.ludo.ludofun;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.ai.AiPlayer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Runs AI decisions on one background thread and hands the answer back on the
+// main thread. Every request carries the version of the game it was asked for;
+// the answer is dropped if a newer request or cancel() came in meanwhile, and
+// the caller drops it if its own version moved on.
+public final class AiExecutor {
+
+    private static final String TAG = "AiExecutor";
+
+    public interface Callback {
+        // Main thread; version is the one passed to request()
+        void onDecision(int token, long version, long thinkMillis);
+    }
+
+    private final AiPlayer ai;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "ai-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Main thread only
+    private long activeVersion = -1;
+    private Future<?> pending;
+    private long lastThinkMillis;
+
+    public AiExecutor(AiPlayer ai) {
+        this.ai = ai;
+    }
+
+    public void request(GameState state, int player, int dice, int[] movable, int count,
+                        long version, Callback callback) {
+        cancel();
+        activeVersion = version;
+        // The search gets its own copy, so the board can keep changing
+        GameState snapshot = new GameState(state.getTotalPlayers());
+        snapshot.copyFrom(state);
+        int[] moves = new int[Board.TOKENS];
+        System.arraycopy(movable, 0, moves, 0, count);
+
+        pending = executor.submit(() -> {
+            long start = SystemClock.uptimeMillis();
+            int token = ai.chooseMove(snapshot, player, dice, moves, count);
+            long thinkMillis = SystemClock.uptimeMillis() - start;
+            if (Thread.currentThread().isInterrupted()) return;
+            mainHandler.post(() -> {
+                if (version != activeVersion) {
+                    Log.d(TAG, "Dropped stale decision for version " + version + " after " + thinkMillis + " ms");
+                    return;
+                }
+                activeVersion = -1;
+                pending = null;
+                lastThinkMillis = thinkMillis;
+                Log.d(TAG, "Player " + player + " rolled " + dice + ": token " + token
+                        + " of " + count + " in " + thinkMillis + " ms (version " + version + ")");
+                callback.onDecision(token, version, thinkMillis);
+            });
+        });
+    }
+
+    // Drops the pending answer, if any, and interrupts the search
+    public void cancel() {
+        activeVersion = -1;
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    public long getLastThinkMillis() { return lastThinkMillis; }
+}
@@ -0,0 +1,230 @@
+package com.ludo.ludofun;
+
+import android.graphics.Path;
+import android.graphics.RectF;
+
+import com.ludo.ludofun.engine.Board;
+
+import java.util.Arrays;
+
+// Pixel centre of every board cell, every (player, steps) pair and every home
+// slot, the shapes of the static board, and which cell or home slot each grid
+// square belongs to. Rebuilt once per size change so drawing and hit-testing
+// only read arrays.
+public class BoardGeometry {
+
+    // hitTest() result for a grid square with nothing to tap on
+    public static final int NO_HIT = -1;
+    private static final int LANE_LENGTH = 5;
+    private static final int GRID_LINES = 32;
+
+    private int cell;
+    private int boardSize;
+    private int offsetX, offsetY;
+
+    private final float[] cellX = new float[Board.CELLS];
+    private final float[] cellY = new float[Board.CELLS];
+    private final float[] stepX = new float[Board.PLAYERS * Board.STEP_VALUES];
+    private final float[] stepY = new float[Board.PLAYERS * Board.STEP_VALUES];
+    private final float[] homeX = new float[Board.PLAYERS * Board.TOKENS];
+    private final float[] homeY = new float[Board.PLAYERS * Board.TOKENS];
+
+    // ===== STATIC BOARD SHAPES (board coordinates, indexed by player - 1) =====
+    private final RectF boardRect = new RectF();
+    private final RectF[] crossRects = rects(2);
+    private final RectF[] baseRects = rects(Board.PLAYERS);      // coloured square of each base
+    private final RectF[] yardRects = rects(Board.PLAYERS);      // white yard inside it
+    private final RectF[] laneRects = rects(Board.PLAYERS * LANE_LENGTH);
+    private final RectF[] startRects = rects(Board.PLAYERS);
+    private final RectF centreRect = new RectF();
+    private final Path[] centreTriangles = new Path[Board.PLAYERS];
+    private final float[] gridLines = new float[GRID_LINES * 4];
+    private final float[] starX = new float[Board.safeSpotCount()];
+    private final float[] starY = new float[Board.safeSpotCount()];
+
+    // Grid square (row * GRID_SIZE + column) -> cell, home slot code, or NO_HIT
+    private final int[] hitCode = new int[Board.GRID_SIZE * Board.GRID_SIZE];
+
+    public BoardGeometry() {
+        for (int i = 0; i < centreTriangles.length; i++) centreTriangles[i] = new Path();
+    }
+
+    public void update(int width, int height) {
+        boardSize = Math.min(width, height);
+        cell = boardSize / Board.GRID_SIZE;
+        offsetX = (width - boardSize) / 2;
+        offsetY = (height - boardSize) / 2;
+
+        for (int c = 0; c < Board.CELLS; c++) {
+            cellX[c] = Board.column(c) * cell + cell / 2f;
+            cellY[c] = Board.row(c) * cell + cell / 2f;
+        }
+
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            // Home base corner of this colour
+            float bx = (player == 2 || player == 4) ? 9 * cell : 0;
+            float by = (player == 3 || player == 4) ? 9 * cell : 0;
+            for (int token = 0; token < Board.TOKENS; token++) {
+                int i = (player - 1) * Board.TOKENS + token;
+                homeX[i] = bx + cell * (2f + (token % 2) * 2f);
+                homeY[i] = by + cell * (2f + (token / 2) * 2f);
+            }
+
+            for (int steps = 0; steps <= Board.GOAL; steps++) {
+                int i = (player - 1) * Board.STEP_VALUES + steps + 1;
+                int c = Board.cellOf(player, steps);
+                stepX[i] = cellX[c];
+                stepY[i] = cellY[c];
+            }
+        }
+
+        for (int i = 0; i < starX.length; i++) {
+            starX[i] = cellX[Board.safeSpot(i)];
+            starY[i] = cellY[Board.safeSpot(i)];
+        }
+        updateShapes(cell);
+        updateHitCodes();
+    }
+
+    private void updateShapes(float c) {
+        boardRect.set(0, 0, 15 * c, 15 * c);
+        crossRects[0].set(6 * c, 0, 9 * c, 15 * c);
+        crossRects[1].set(0, 6 * c, 15 * c, 9 * c);
+        centreRect.set(6 * c, 6 * c, 9 * c, 9 * c);
+
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            float bx = (player == 2 || player == 4) ? 9 * c : 0;
+            float by = (player == 3 || player == 4) ? 9 * c : 0;
+            baseRects[player - 1].set(bx, by, bx + 6 * c, by + 6 * c);
+            yardRects[player - 1].set(bx + c, by + c, bx + 5 * c, by + 5 * c);
+        }
+
+        // Home lanes run from the edge towards the centre; start cells sit beside their lane
+        for (int i = 0; i < LANE_LENGTH; i++) {
+            float near = (1 + i) * c, far = (9 + i) * c;
+            laneRects[i].set(near, 7 * c, near + c, 8 * c);                             // Red
+            laneRects[LANE_LENGTH + i].set(7 * c, near, 8 * c, near + c);               // Green
+            laneRects[2 * LANE_LENGTH + i].set(7 * c, far, 8 * c, far + c);             // Yellow
+            laneRects[3 * LANE_LENGTH + i].set(far, 7 * c, far + c, 8 * c);             // Blue
+        }
+        startRects[0].set(c, 6 * c, 2 * c, 7 * c);
+        startRects[1].set(8 * c, c, 9 * c, 2 * c);
+        startRects[2].set(6 * c, 13 * c, 7 * c, 14 * c);
+        startRects[3].set(13 * c, 8 * c, 14 * c, 9 * c);
+
+        // Lines through the cross: full-length ones at 6..9, short ones across each arm
+        int n = 0;
+        for (int i = 6; i <= 9; i++) {
+            n = line(n, i * c, 0, i * c, 15 * c);
+            n = line(n, 0, i * c, 15 * c, i * c);
+        }
+        for (int i = 0; i <= 15; i++) {
+            if (i >= 6 && i <= 9) continue;
+            n = line(n, i * c, 6 * c, i * c, 9 * c);
+            n = line(n, 6 * c, i * c, 9 * c, i * c);
+        }
+
+        // Each colour's triangle points from its side of the centre square to the middle
+        float mid = 7.5f * c;
+        triangle(centreTriangles[0], 6 * c, 6 * c, mid, mid, 6 * c, 9 * c);  // Red
+        triangle(centreTriangles[1], 6 * c, 6 * c, mid, mid, 9 * c, 6 * c);  // Green
+        triangle(centreTriangles[2], 6 * c, 9 * c, mid, mid, 9 * c, 9 * c);  // Yellow
+        triangle(centreTriangles[3], 9 * c, 6 * c, mid, mid, 9 * c, 9 * c);  // Blue
+    }
+
+    private int line(int n, float x0, float y0, float x1, float y1) {
+        gridLines[n] = x0;
+        gridLines[n + 1] = y0;
+        gridLines[n + 2] = x1;
+        gridLines[n + 3] = y1;
+        return n + 4;
+    }
+
+    private static void triangle(Path path, float x0, float y0, float x1, float y1, float x2, float y2) {
+        path.reset();
+        path.moveTo(x0, y0);
+        path.lineTo(x1, y1);
+        path.lineTo(x2, y2);
+        path.close();
+    }
+
+    // Home slots are centred on a grid corner, so each owns the 2x2 squares around it
+    private void updateHitCodes() {
+        Arrays.fill(hitCode, NO_HIT);
+        for (int c = 0; c < Board.CELLS; c++) {
+            hitCode[Board.row(c) * Board.GRID_SIZE + Board.column(c)] = c;
+        }
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            int baseColumn = (player == 2 || player == 4) ? 9 : 0;
+            int baseRow = (player == 3 || player == 4) ? 9 : 0;
+            for (int token = 0; token < Board.TOKENS; token++) {
+                int column = baseColumn + 1 + (token % 2) * 2;
+                int row = baseRow + 1 + (token / 2) * 2;
+                int code = homeSlotCode(player, token);
+                for (int dr = 0; dr < 2; dr++) {
+                    for (int dc = 0; dc < 2; dc++) {
+                        hitCode[(row + dr) * Board.GRID_SIZE + column + dc] = code;
+                    }
+                }
+            }
+        }
+    }
+
+    private static RectF[] rects(int count) {
+        RectF[] rects = new RectF[count];
+        for (int i = 0; i < count; i++) rects[i] = new RectF();
+        return rects;
+    }
+
+    public int getCell() { return cell; }
+    public int getBoardSize() { return boardSize; }
+    public int getOffsetX() { return offsetX; }
+    public int getOffsetY() { return offsetY; }
+
+    public float cellX(int c) { return cellX[c]; }
+    public float cellY(int c) { return cellY[c]; }
+
+    // Centre of a token in board coordinates (before the offset translation)
+    public float tokenX(int player, int token, int steps) {
+        if (steps == Board.HOME) return homeX[(player - 1) * Board.TOKENS + token];
+        return stepX[(player - 1) * Board.STEP_VALUES + steps + 1];
+    }
+
+    public float tokenY(int player, int token, int steps) {
+        if (steps == Board.HOME) return homeY[(player - 1) * Board.TOKENS + token];
+        return stepY[(player - 1) * Board.STEP_VALUES + steps + 1];
+    }
+
+    // ===== HIT TESTING =====
+    // Home slots get codes after the last cell
+    public static int homeSlotCode(int player, int token) {
+        return Board.CELLS + (player - 1) * Board.TOKENS + token;
+    }
+
+    // What a token standing on these steps is hit by
+    public static int hitCodeOf(int player, int token, int steps) {
+        return steps == Board.HOME ? homeSlotCode(player, token) : Board.cellOf(player, steps);
+    }
+
+    // Cell or home slot under a point in board coordinates, or NO_HIT
+    public int hitTest(float x, float y) {
+        if (x < 0 || y < 0 || cell == 0) return NO_HIT;
+        int column = (int) (x / cell), row = (int) (y / cell);
+        if (column >= Board.GRID_SIZE || row >= Board.GRID_SIZE) return NO_HIT;
+        return hitCode[row * Board.GRID_SIZE + column];
+    }
+
+    // ===== STATIC BOARD SHAPES =====
+    public RectF boardRect() { return boardRect; }
+    public RectF crossRect(int i) { return crossRects[i]; }
+    public RectF baseRect(int player) { return baseRects[player - 1]; }
+    public RectF yardRect(int player) { return yardRects[player - 1]; }
+    public RectF laneRect(int player, int i) { return laneRects[(player - 1) * LANE_LENGTH + i]; }
+    public int laneLength() { return LANE_LENGTH; }
+    public RectF startRect(int player) { return startRects[player - 1]; }
+    public RectF centreRect() { return centreRect; }
+    public Path centreTriangle(int player) { return centreTriangles[player - 1]; }
+    public float[] gridLines() { return gridLines; }
+    public float starX(int i) { return starX[i]; }
+    public float starY(int i) { return starY[i]; }
+}
@@ -0,0 +1,138 @@
+package com.ludo.ludofun;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import com.ludo.ludofun.engine.Board;
+
+// Draws the board and its tokens for one BoardGeometry and SpriteAtlas. Shared by
+// BoardView and the render thread of BoardSurface, each with its own instance.
+public final class BoardPainter {
+
+    // ===== COLOURS (indexed by player) =====
+    public static final int[] PLAYER_COLORS = {0, 0xFFE53935, 0xFF43A047, 0xFFFFB300, 0xFF1E88E5};
+    private static final int[] LANE_COLORS = {0, 0xFFFFCDD2, 0xFFC8E6C9, 0xFFFFF9C4, 0xFFBBDEFB};
+    private static final int PATH_COLOR = 0xFFF5F5F5;
+    private static final int GRID_COLOR = 0xFFBDBDBD;
+    private static final int HOLDER_COLOR = 0xFFEEEEEE;
+
+    private final BoardGeometry geometry;
+    private final SpriteAtlas sprites;
+    private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    public BoardPainter(BoardGeometry geometry, SpriteAtlas sprites) {
+        this.geometry = geometry;
+        this.sprites = sprites;
+    }
+
+    // Token at its place in the stack on its cell; scale is the hint pulse, 1 otherwise
+    public void drawToken(Canvas canvas, TokenStacks stacks, int player, int index, float scale) {
+        int steps = stacks.steps(player, index);
+        int count = stacks.count(player, index);
+        int slot = stacks.slot(player, index);
+        float drawX = geometry.tokenX(player, index, steps);
+        float drawY = geometry.tokenY(player, index, steps);
+
+        // If stacked, offset tokens slightly to show all of them
+        if (count > 1) {
+            float offset = geometry.getCell() * 0.22f; // Increased offset for better visibility
+            if (count == 2) {
+                drawX += (slot == 0 ? -offset : offset);
+            } else if (count == 3) {
+                // Arrange in triangle
+                if (slot == 0) drawY -= offset;
+                else if (slot == 1) { drawX -= offset; drawY += offset; }
+                else { drawX += offset; drawY += offset; }
+            } else if (count == 4) {
+                // Arrange in square
+                if (slot == 0) { drawX -= offset; drawY -= offset; }
+                else if (slot == 1) { drawX += offset; drawY -= offset; }
+                else if (slot == 2) { drawX -= offset; drawY += offset; }
+                else { drawX += offset; drawY += offset; }
+            } else if (count == 5) {
+                // 4 in corners + 1 in center
+                if (slot == 0) { drawX -= offset; drawY -= offset; }
+                else if (slot == 1) { drawX += offset; drawY -= offset; }
+                else if (slot == 2) { drawX -= offset; drawY += offset; }
+                else if (slot == 3) { drawX += offset; drawY += offset; }
+                // slot == 4 stays at center
+            } else {
+                // Circle arrangement for 6 or more tokens
+                double angle = Math.toRadians((slot * 360.0 / count) - 90);
+                drawX += (float) (Math.cos(angle) * offset * 1.1f);
+                drawY += (float) (Math.sin(angle) * offset * 1.1f);
+            }
+        }
+
+        // Stacked tokens use the smaller sprites
+        sprites.drawToken(canvas, player, SpriteAtlas.stackIndex(count), scale, drawX, drawY);
+    }
+
+    // Everything that only depends on the size: background, bases, lanes, grid, centre and stars
+    public void drawBoard(Canvas canvas) {
+        float cell = geometry.getCell();
+
+        // Clear background
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(Color.WHITE);
+        canvas.drawRect(geometry.boardRect(), paint);
+
+        // Highlight the Token Paths (Cross area) with a very light gray
+        paint.setColor(PATH_COLOR);
+        canvas.drawRect(geometry.crossRect(0), paint);
+        canvas.drawRect(geometry.crossRect(1), paint);
+
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            // Home base with its four token holders
+            paint.setColor(PLAYER_COLORS[player]);
+            canvas.drawRect(geometry.baseRect(player), paint);
+            paint.setColor(Color.WHITE);
+            canvas.drawRect(geometry.yardRect(player), paint);
+            paint.setColor(HOLDER_COLOR);
+            for (int t = 0; t < Board.TOKENS; t++) {
+                canvas.drawCircle(geometry.tokenX(player, t, Board.HOME), geometry.tokenY(player, t, Board.HOME),
+                        cell / 1.2f, paint);
+            }
+        }
+
+        // Path Highlights (Colored rows - Home paths) and start cells
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            paint.setColor(LANE_COLORS[player]);
+            for (int i = 0; i < geometry.laneLength(); i++) canvas.drawRect(geometry.laneRect(player, i), paint);
+            paint.setColor(PLAYER_COLORS[player]);
+            canvas.drawRect(geometry.startRect(player), paint);
+        }
+
+        // Grid lines (Thicker and darker for the path)
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(2.5f);
+        paint.setColor(GRID_COLOR);
+        canvas.drawLines(geometry.gridLines(), paint);
+
+        // Home Triangle (Center)
+        paint.setStyle(Paint.Style.FILL);
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            paint.setColor(PLAYER_COLORS[player]);
+            canvas.drawPath(geometry.centreTriangle(player), paint);
+        }
+
+        // Final Center Square border
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setColor(Color.WHITE);
+        paint.setStrokeWidth(4);
+        canvas.drawRect(geometry.centreRect(), paint);
+
+        drawSafeStars(canvas);
+    }
+
+    private void drawSafeStars(Canvas canvas) {
+        Bitmap star = sprites.getStar();
+        if (star == null) return;
+        float half = star.getWidth() / 2f;
+        for (int i = 0; i < Board.safeSpotCount(); i++) {
+            canvas.drawBitmap(star, geometry.starX(i) - half, geometry.starY(i) - half, null);
+        }
+    }
+}
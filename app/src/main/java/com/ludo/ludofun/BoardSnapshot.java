@@ -0,0 +1,55 @@
+package com.ludo.ludofun;
+
+import com.ludo.ludofun.engine.Board;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Everything the render thread needs to draw one frame of the board, copied out
+// of BoardView on the UI thread. Positions are in board coordinates.
+public final class BoardSnapshot {
+
+    public final int[] steps = new int[Board.PLAYERS * Board.TOKENS]; // as drawn, mid-move included
+    public final boolean[] active = new boolean[Board.PLAYERS + 1];
+
+    // The token being moved, drawn at a free position; livePlayer is -1 when none
+    public int livePlayer = -1;
+    public int liveIndex = -1;
+    public float liveX, liveY;
+    public float liveScale = 1f;
+
+    // Tokens pulsing as a hint, one bit per token of hintPlayer
+    public int hintPlayer;
+    public int hintMask;
+    public float hintScale = 1f;
+
+    private boolean fresh;
+
+    // Lock-free triple buffer. The UI thread fills back() and publishes it; the
+    // render thread takes the newest published snapshot with latest(). Neither
+    // side ever waits, and a snapshot the renderer has not drawn yet is simply
+    // overwritten by the next one.
+    public static final class Buffer {
+        private BoardSnapshot back = new BoardSnapshot();   // UI thread only
+        private BoardSnapshot front = new BoardSnapshot();  // render thread only
+        private final AtomicReference<BoardSnapshot> middle = new AtomicReference<>(new BoardSnapshot());
+
+        public BoardSnapshot back() {
+            return back;
+        }
+
+        public void publish() {
+            back.fresh = true;
+            back = middle.getAndSet(back);
+        }
+
+        // Newest published snapshot, or the one returned last time if none came in since
+        public BoardSnapshot latest() {
+            // Only the writer touches the middle slot, and it only ever puts fresh ones there
+            if (middle.get().fresh) {
+                front.fresh = false;
+                front = middle.getAndSet(front);
+            }
+            return front;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ludo.ludofun;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.util.AttributeSet;
+import android.view.Choreographer;
+import android.view.MotionEvent;
+import android.view.SurfaceHolder;
+import android.view.SurfaceView;
+
+import com.ludo.ludofun.engine.Board;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Draws the board on its own render thread, for BoardView's SURFACE render mode.
+// It sits on top of the BoardView with the same bounds. The view keeps all game
+// logic and publishes a BoardSnapshot whenever it would have redrawn; this class
+// draws the newest snapshot on the next vsync of its thread. Touches go straight
+// back to the BoardView.
+public class BoardSurface extends SurfaceView implements SurfaceHolder.Callback {
+
+    private BoardView board;
+    private BoardSnapshot.Buffer snapshots;
+
+    private HandlerThread renderThread;
+    private Handler renderHandler;
+    private final AtomicBoolean renderRequested = new AtomicBoolean();
+    private final Choreographer.FrameCallback frameCallback = this::renderFrame;
+    private final Runnable postFrame = () -> Choreographer.getInstance().postFrameCallback(frameCallback);
+
+    // ===== RENDER THREAD ONLY =====
+    private SurfaceHolder holder;
+    private final BoardGeometry geometry = new BoardGeometry();
+    private final SpriteAtlas sprites = new SpriteAtlas();
+    private final BoardPainter painter = new BoardPainter(geometry, sprites);
+    private final TokenStacks stacks = new TokenStacks();
+    private final FrameStats drawStats = BuildConfig.DEBUG ? new FrameStats("BoardSurface.render") : null;
+    private Bitmap starSource;
+    private Bitmap boardLayer;
+
+    public BoardSurface(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        getHolder().addCallback(this);
+    }
+
+    void bind(BoardView board, BoardSnapshot.Buffer snapshots, Bitmap starSource) {
+        this.board = board;
+        this.snapshots = snapshots;
+        this.starSource = starSource;
+    }
+
+    // Any thread; at most one frame is queued at a time
+    void requestRender() {
+        Handler handler = renderHandler;
+        if (handler != null && renderRequested.compareAndSet(false, true)) handler.post(postFrame);
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return board != null ? board.onTouchEvent(event) : super.onTouchEvent(event);
+    }
+
+    @Override
+    public void surfaceCreated(SurfaceHolder holder) {
+        renderThread = new HandlerThread("board-render", Process.THREAD_PRIORITY_DISPLAY);
+        renderThread.start();
+        renderHandler = new Handler(renderThread.getLooper());
+        renderHandler.post(() -> this.holder = holder);
+    }
+
+    @Override
+    public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
+        renderHandler.post(() -> resize(width, height));
+        requestRender();
+    }
+
+    // The surface must not be drawn after this returns, so wait for the thread to let go
+    @Override
+    public void surfaceDestroyed(SurfaceHolder holder) {
+        CountDownLatch released = new CountDownLatch(1);
+        renderHandler.post(() -> {
+            this.holder = null;
+            releaseLayers();
+            released.countDown();
+        });
+        renderHandler = null;
+        try {
+            released.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        renderThread.quitSafely();
+        renderThread = null;
+        renderRequested.set(false);
+    }
+
+    // ===== RENDER THREAD =====
+    private void resize(int width, int height) {
+        releaseLayers();
+        geometry.update(width, height);
+        int cell = geometry.getCell();
+        if (cell == 0) return;
+        sprites.build(cell, starSource, BoardPainter.PLAYER_COLORS);
+        int size = Board.GRID_SIZE * cell;
+        boardLayer = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        painter.drawBoard(new Canvas(boardLayer));
+    }
+
+    private void releaseLayers() {
+        sprites.release();
+        if (boardLayer != null) {
+            boardLayer.recycle();
+            boardLayer = null;
+        }
+    }
+
+    private void renderFrame(long frameTimeNanos) {
+        renderRequested.set(false);
+        if (holder == null || boardLayer == null) return;
+        BoardSnapshot frame = snapshots.latest();
+
+        Canvas canvas = Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+                ? holder.lockHardwareCanvas() : holder.lockCanvas();
+        if (canvas == null) return;
+        try {
+            if (drawStats != null) drawStats.beginFrame();
+            canvas.drawColor(Color.WHITE);
+            canvas.translate(geometry.getOffsetX(), geometry.getOffsetY());
+            canvas.drawBitmap(boardLayer, 0, 0, null);
+            drawTokens(canvas, frame);
+            if (drawStats != null) drawStats.endFrame(true);
+        } finally {
+            holder.unlockCanvasAndPost(canvas);
+        }
+    }
+
+    private void drawTokens(Canvas canvas, BoardSnapshot frame) {
+        stacks.clear();
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            for (int t = 0; t < Board.TOKENS; t++) {
+                stacks.place(player, t, frame.steps[(player - 1) * Board.TOKENS + t], frame.active[player]);
+            }
+        }
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            if (!frame.active[player]) continue;
+            for (int t = 0; t < Board.TOKENS; t++) {
+                if (player == frame.livePlayer && t == frame.liveIndex) continue;
+                boolean hinted = player == frame.hintPlayer && (frame.hintMask & (1 << t)) != 0;
+                painter.drawToken(canvas, stacks, player, t, hinted ? frame.hintScale : 1f);
+            }
+        }
+        if (frame.livePlayer > 0) {
+            sprites.drawToken(canvas, frame.livePlayer, 0, frame.liveScale, frame.liveX, frame.liveY);
+        }
+    }
+}
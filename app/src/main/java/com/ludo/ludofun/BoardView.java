@@ -3,55 +3,103 @@ package com.ludo.ludofun;
 import android.animation.ValueAnimator;
 import android.content.Context;
 import android.graphics.*;
-import android.os.Handler;
 import android.util.AttributeSet;
+import android.view.Choreographer;
 import android.view.MotionEvent;
 import android.view.View;
+import android.widget.Toast;
 import android.view.animation.AccelerateDecelerateInterpolator;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameClock;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+import com.ludo.ludofun.engine.Tablebase;
+import com.ludo.ludofun.engine.TurnTimings;
+import com.ludo.ludofun.engine.ai.AiPlayer;
+import com.ludo.ludofun.engine.ai.EndgameAi;
+import com.ludo.ludofun.engine.ai.ExpectiminimaxAi;
 
 
 public class BoardView extends View {
-    private Bitmap safeStarBitmap;
+    private static final int REPAINT_FILL = 0x30FF00FF;
+    private static final int REPAINT_STROKE = 0xC0FF00FF;
+    private static final String REPAINT_LABEL = "requested dirty region";
 
+    private Bitmap safeStarBitmap;
+    // Background, bases, lanes, grid, centre and stars only change with the size,
+    // so they are drawn once into this layer and copied under the tokens each frame
+    private Bitmap boardLayer;
+    // The board plus every token that is neither moving nor pulsing. Redrawn only
+    // when tokens change, so a hint or pop frame just adds the few live tokens on top.
+    private Bitmap tokenLayer;
+    private Canvas tokenLayerCanvas;
+    private boolean tokenLayerValid;
+    private final SpriteAtlas sprites = new SpriteAtlas();
+    private final BoardPainter painter;
+    private final FrameStats drawStats = BuildConfig.DEBUG ? new FrameStats("BoardView.onDraw") : null;
 
     private int cell;
     private int boardSize;
     private int offsetX, offsetY;
+    private final BoardGeometry geometry = new BoardGeometry();
+
+    // ===== RENDER MODE =====
+    // VIEW draws in onDraw on the UI thread. SURFACE hands every frame to a
+    // BoardSurface laid over this view, which draws on its own thread.
+    public enum RenderMode { VIEW, SURFACE }
+    private static final long RENDER_TOGGLE_PRESS_MS = 1500;
+    private RenderMode renderMode = RenderMode.VIEW;
+    private BoardSurface surface;
+    private final BoardSnapshot.Buffer snapshots = new BoardSnapshot.Buffer();
+    private boolean pressMovedToken;
 
     private Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
-    private Handler handler = new Handler();
+    private GameClock clock = new HandlerGameClock();
 
-    // ===== PATH SYSTEM =====
-    private int[][] path;
-    private final int[] safeSpots = {1, 9, 14, 22, 27, 35, 40, 48};
-    private final int[] startIndex = {1, 14, 40, 27}; // Red, Green, Yellow, Blue
+    // ===== GAME STATE (rules live in the engine, this view only animates and draws) =====
+    private final GameState state = new GameState(4);
 
-    // ===== TOKENS (Stored as stepsMoved: -1 = Home, 0-50 = Main Path, 51-56 = Home Path/Goal) =====
-    private int[] redTokens    = {-1, -1, -1, -1};
-    private int[] greenTokens  = {-1, -1, -1, -1};
-    private int[] yellowTokens = {-1, -1, -1, -1};
-    private int[] blueTokens   = {-1, -1, -1, -1};
+    // ===== AI (searches a copy of the state on its own thread) =====
+    private static final long AI_THINK_MS = 500;
+    private final AiExecutor aiExecutor;
+    // Bumped whenever the position or the roll changes; AI answers for older versions are ignored
+    private long stateVersion;
 
     private int currentPlayer = 1;
     private int diceValue = 0;
     private boolean isAnimating = false;
     private int animatingTokenPlayer = -1;
     private int animatingTokenIndex = -1;
+    private int animatingSteps = Board.HOME;
     private float animationScale = 1.0f;
+
+    // ===== MOVE TWEEN (one vsync-driven animation per move) =====
+    // The moving token hops from cell to cell: it grows by up to POP_SCALE mid-hop
+    private static final float POP_SCALE = 0.3f;
+    private final Choreographer.FrameCallback tweenFrame = this::onTweenFrame;
+    private int tweenFrom;            // steps the token started from
+    private int tweenSegments;        // cells to travel
+    private long tweenDurationNanos;
+    private long tweenStartNanos;     // frame time of the first frame, 0 before it
+    private int tweenSegment;         // hop whose sound has played
+    private float tweenX, tweenY;     // drawn centre, board coordinates
     
-    private List<Integer> movableTokenIndices = new ArrayList<>();
+    // Cell and stack slot of every token as last drawn
+    private final TokenStacks stacks = new TokenStacks();
+
+    // ===== DIRTY REGIONS (board coordinates) =====
+    private final Rect dirty = new Rect();        // requested since the last frame
+    private final Rect lastRequested = new Rect(); // shown by the debug overlay
+    private boolean showRepaints;
+
+    private final int[] movableTokens = new int[Board.TOKENS];
+    private int movableCount = 0;
     private float hintScale = 1.0f;
     private ValueAnimator hintAnimator;
     
     private boolean moveMade = false;
     private boolean isGameOver = false;
-    private int totalPlayers = 4;
-    private List<Integer> winners = new ArrayList<>();
 
     public interface OnMoveFinishedListener {
         void onMoveFinished(boolean killed, boolean reachedGoal);
@@ -71,99 +119,201 @@ public class BoardView extends View {
         this.waitingForMoveListener = listener;
     }
 
+    // All of the board's waiting goes through the activity's clock, so game speed applies
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
     public void setTotalPlayers(int totalPlayers) {
-        this.totalPlayers = totalPlayers;
-        invalidate();
+        state.setTotalPlayers(totalPlayers);
+        refreshBoard();
     }
 
     // Persist State logic
-    public int[] getRedTokens() { return redTokens; }
-    public void setRedTokens(int[] tokens) { this.redTokens = tokens; invalidate(); }
-
-    public int[] getGreenTokens() { return greenTokens; }
-    public void setGreenTokens(int[] tokens) { this.greenTokens = tokens; invalidate(); }
+    public GameState getState() { return state; }
 
-    public int[] getYellowTokens() { return yellowTokens; }
-    public void setYellowTokens(int[] tokens) { this.yellowTokens = tokens; invalidate(); }
+    public void setTokens(int player, int[] tokens) {
+        stateVersion++;
+        state.setTokens(player, tokens);
+        refreshBoard();
+    }
 
-    public int[] getBlueTokens() { return blueTokens; }
-    public void setBlueTokens(int[] tokens) { this.blueTokens = tokens; invalidate(); }
+    // Repaints everything; call after changing the state from outside the view
+    public void refreshBoard() {
+        tokenLayerValid = false;
+        dirty.set(0, 0, boardSize, boardSize);
+        invalidate();
+    }
 
-    public int getCurrentPlayer() { return currentPlayer; }
-    public void setCurrentPlayer(int player) { this.currentPlayer = player; invalidate(); }
+    // Debug aid: tints the region each frame asked to repaint. Under hardware
+    // acceleration the whole view is redrawn anyway; only a software layer
+    // limits drawing to that region.
+    public void setShowRepaints(boolean show) {
+        showRepaints = show;
+        refreshBoard();
+    }
 
     public BoardView(Context context, AttributeSet attrs) {
         super(context, attrs);
-        createMainPath();
+        // Exact race play from the endgame table, search everywhere else
+        AiPlayer search = new ExpectiminimaxAi(AI_THINK_MS);
+        Tablebase tablebase = EndgameTablebase.get(context);
+        aiExecutor = new AiExecutor(tablebase == null ? search : new EndgameAi(search, tablebase));
         safeStarBitmap = BitmapFactory.decodeResource(
                 getResources(),
                 R.drawable.star_safe   // change if your name different
         );
+        painter = new BoardPainter(geometry, sprites);
     }
 
-
-    private void createMainPath() {
-        path = new int[][]{
-            // Main Path (52 cells, index 0-51)
-            {0,6}, {1,6}, {2,6}, {3,6}, {4,6}, {5,6}, // 0-5
-            {6,5}, {6,4}, {6,3}, {6,2}, {6,1}, {6,0}, // 6-11
-            {7,0}, // 12
-            {8,0}, {8,1}, {8,2}, {8,3}, {8,4}, {8,5}, // 13-18
-            {9,6}, {10,6}, {11,6}, {12,6}, {13,6}, {14,6}, // 19-24
-            {14,7}, // 25
-            {14,8}, {13,8}, {12,8}, {11,8}, {10,8}, {9,8}, // 26-31
-            {8,9}, {8,10}, {8,11}, {8,12}, {8,13}, {8,14}, // 32-37
-            {7,14}, // 38
-            {6,14}, {6,13}, {6,12}, {6,11}, {6,10}, {6,9}, // 39-44
-            {5,8}, {4,8}, {3,8}, {2,8}, {1,8}, {0,8}, // 45-50
-            {0,7}, // 51
-
-            // Home Paths (6 cells each)
-            // Red (Player 1) - 52-57
-            {1,7}, {2,7}, {3,7}, {4,7}, {5,7}, {6,7},
-            // Green (Player 2) - 58-63
-            {7,1}, {7,2}, {7,3}, {7,4}, {7,5}, {7,6},
-            // Yellow (Player 3) - 64-69
-            {7,13}, {7,12}, {7,11}, {7,10}, {7,9}, {7,8},
-            // Blue (Player 4) - 70-75
-            {13,7}, {12,7}, {11,7}, {10,7}, {9,7}, {8,7}
-        };
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        geometry.update(w, h);
+        boardSize = geometry.getBoardSize();
+        cell = geometry.getCell();
+        offsetX = geometry.getOffsetX();
+        offsetY = geometry.getOffsetY();
+        releaseBoardLayer();
+        if (cell > 0) {
+            sprites.build(cell, safeStarBitmap, BoardPainter.PLAYER_COLORS);
+        } else {
+            sprites.release();
+        }
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
-        boardSize = Math.min(getWidth(), getHeight());
-        cell = boardSize / 15;
-        offsetX = (getWidth() - boardSize) / 2;
-        offsetY = (getHeight() - boardSize) / 2;
-
+        if (renderMode == RenderMode.SURFACE && surface != null) {
+            // Nothing to draw here: the surface on top shows this frame
+            publishSnapshot();
+            dirty.setEmpty();
+            return;
+        }
+        // Building the caches allocates, so only frames that reuse them must stay allocation-free
+        boolean steady = boardLayer != null && sprites.isReady();
+        if (drawStats != null) drawStats.beginFrame();
         canvas.save();
         canvas.translate(offsetX, offsetY);
-        drawBoard(canvas);
-        drawSafeStars(canvas);
-        
-        // Group tokens by their position to handle stacking
-        Map<String, List<TokenInfo>> positionMap = new HashMap<>();
-        
-        if (isPlayerActive(1)) addTokensToMap(positionMap, redTokens, Color.parseColor("#E53935"), 1);
-        if (isPlayerActive(2)) addTokensToMap(positionMap, greenTokens, Color.parseColor("#43A047"), 2);
-        if (isPlayerActive(3)) addTokensToMap(positionMap, yellowTokens, Color.parseColor("#FFB300"), 3);
-        if (isPlayerActive(4)) addTokensToMap(positionMap, blueTokens, Color.parseColor("#1E88E5"), 4);
-        
-        drawStackedTokens(canvas, positionMap);
-        
+        if (!sprites.isReady() && cell > 0) sprites.build(cell, safeStarBitmap, BoardPainter.PLAYER_COLORS);
+        if (boardLayer == null && cell > 0) buildBoardLayer();
+
+        layoutTokens();
+        if (tokenLayer != null) {
+            if (!tokenLayerValid) renderTokenLayer();
+            canvas.drawBitmap(tokenLayer, 0, 0, null);
+        }
+        drawLiveTokens(canvas);
+
+        lastRequested.set(dirty);
+        dirty.setEmpty();
+        if (showRepaints) drawRepaintOverlay(canvas);
+
         canvas.restore();
+        if (drawStats != null) drawStats.endFrame(steady);
+    }
+
+    private void buildBoardLayer() {
+        int size = Board.GRID_SIZE * cell;
+        boardLayer = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        Canvas layer = new Canvas(boardLayer);
+        painter.drawBoard(layer);
+        tokenLayer = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        tokenLayerCanvas = new Canvas(tokenLayer);
+        tokenLayerValid = false;
+        dirty.set(0, 0, size, size);
+    }
+
+    private void releaseBoardLayer() {
+        if (boardLayer != null) {
+            boardLayer.recycle();
+            boardLayer = null;
+        }
+        if (tokenLayer != null) {
+            tokenLayer.recycle();
+            tokenLayer = null;
+            tokenLayerCanvas = null;
+        }
+    }
+
+    private void renderTokenLayer() {
+        tokenLayerCanvas.drawBitmap(boardLayer, 0, 0, null);
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            if (!state.isPlayerActive(player)) continue;
+            for (int t = 0; t < Board.TOKENS; t++) {
+                if (!isLive(player, t)) drawToken(tokenLayerCanvas, player, t);
+            }
+        }
+        tokenLayerValid = true;
+    }
+
+    private void drawLiveTokens(Canvas canvas) {
+        if (isAnimating) sprites.drawToken(canvas, animatingTokenPlayer, 0, animationScale, tweenX, tweenY);
+        if (hintAnimator != null) {
+            for (int m = 0; m < movableCount; m++) {
+                if (isLive(currentPlayer, movableTokens[m])) drawToken(canvas, currentPlayer, movableTokens[m]);
+            }
+        }
     }
 
-    private boolean isPlayerActive(int ludoPlayer) {
-        if (totalPlayers == 2) {
-            return ludoPlayer == 2 || ludoPlayer == 3;
+    // Moving or pulsing tokens change every frame, so they stay out of the token layer
+    private boolean isLive(int player, int index) {
+        if (isAnimating) return player == animatingTokenPlayer && index == animatingTokenIndex;
+        return hintAnimator != null && player == currentPlayer && isMovable(index);
+    }
+
+    private void drawRepaintOverlay(Canvas canvas) {
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(REPAINT_FILL);
+        canvas.drawRect(lastRequested, paint);
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(3);
+        paint.setColor(REPAINT_STROKE);
+        canvas.drawRect(lastRequested, paint);
+        if (lastRequested.isEmpty()) return;
+        paint.setStyle(Paint.Style.FILL);
+        paint.setTextSize(cell * 0.4f);
+        canvas.drawText(REPAINT_LABEL, lastRequested.left + 4, lastRequested.top + cell * 0.4f, paint);
+    }
+
+    // ===== INVALIDATION =====
+    // Drawn tokens span at most a cell either side of their centre, even popped or stacked
+    private void invalidateToken(int player, int index, int steps) {
+        invalidateAt(geometry.tokenX(player, index, steps), geometry.tokenY(player, index, steps));
+    }
+
+    @SuppressWarnings("deprecation")
+    private void invalidateAt(float x, float y) {
+        int left = (int) (x - cell), top = (int) (y - cell);
+        int right = (int) (x + cell) + 1, bottom = (int) (y + cell) + 1;
+        dirty.union(left, top, right, bottom);
+        // Ignored under hardware acceleration, which redraws the whole view from
+        // the cached layers; a software layer redraws just this rect
+        invalidate(offsetX + left, offsetY + top, offsetX + right, offsetY + bottom);
+    }
+
+    // Tokens that moved since the last frame: their old and new cells, and the layer
+    private void invalidateMovedTokens() {
+        tokenLayerValid = false;
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            if (!state.isPlayerActive(player)) continue;
+            for (int t = 0; t < Board.TOKENS; t++) {
+                int steps = displaySteps(player, t);
+                int drawn = stacks.steps(player, t);
+                if (steps != drawn) {
+                    invalidateToken(player, t, drawn);
+                    invalidateToken(player, t, steps);
+                }
+            }
         }
-        if (totalPlayers == 3) {
-            return ludoPlayer == 1 || ludoPlayer == 2 || ludoPlayer == 3;
+    }
+
+    private void invalidateMovableTokens() {
+        for (int m = 0; m < movableCount; m++) {
+            int index = movableTokens[m];
+            invalidateToken(currentPlayer, index, displaySteps(currentPlayer, index));
         }
-        return true; // 4 players or default
     }
 
     private String getPlayerColorName(int player) {
@@ -178,406 +328,215 @@ public class BoardView extends View {
     
     public void setGameOver() {
         this.isGameOver = true;
-        invalidate();
+        refreshBoard();
         // Play game over sound
-        int resId = getResources().getIdentifier("win_sound_end", "raw", getContext().getPackageName());
-        if (resId != 0) {
-            MusicManager.playSound(getContext(), resId);
-        }
+        SoundEffects.play(getContext(), R.raw.win_sound_end);
     }
 
-    private void addTokensToMap(Map<String, List<TokenInfo>> map, int[] tokens, int color, int player) {
-        for (int i = 0; i < 4; i++) {
-            String posKey;
-            if (tokens[i] == -1) {
-                posKey = "home_" + player + "_" + i; // Unique key for home tokens
-            } else {
-                int pathIdx;
-                if (tokens[i] <= 50) {
-                    pathIdx = (startIndex[player - 1] + tokens[i]) % 52;
-                } else {
-                    pathIdx = 52 + (player - 1) * 6 + (tokens[i] - 51);
-                }
-                posKey = "path_" + pathIdx;
-            }
-            
-            if (!map.containsKey(posKey)) {
-                map.put(posKey, new ArrayList<>());
-            }
-            map.get(posKey).add(new TokenInfo(player, i, tokens[i], color));
+    // The animating token is drawn where the animation has got to, not where the engine put it
+    private int displaySteps(int player, int index) {
+        if (isAnimating && player == animatingTokenPlayer && index == animatingTokenIndex) {
+            return animatingSteps;
         }
+        return state.getSteps(player, index);
     }
 
-    private void drawStackedTokens(Canvas canvas, Map<String, List<TokenInfo>> positionMap) {
-        for (Map.Entry<String, List<TokenInfo>> entry : positionMap.entrySet()) {
-            List<TokenInfo> tokens = entry.getValue();
-            int count = tokens.size();
-            
-            for (int i = 0; i < count; i++) {
-                TokenInfo token = tokens.get(i);
-                PointF p = getTokenPosition(token.player, token.index, token.steps);
-
-                float drawX = p.x;
-                float drawY = p.y;
-                float currentCellSize = cell;
-
-                // Pop-up effect for the animating token
-                if (isAnimating && token.player == animatingTokenPlayer && token.index == animatingTokenIndex) {
-                    currentCellSize *= animationScale;
-                } else if (!isAnimating && token.player == currentPlayer && movableTokenIndices.contains(token.index)) {
-                    // Pop-up hint for movable tokens
-                    currentCellSize *= hintScale;
-                }
-
-                // If stacked, offset tokens slightly to show all of them
-                if (count > 1 && token.steps != -1) {
-                    float offset = cell * 0.22f; // Increased offset for better visibility
-                    if (count == 2) {
-                        drawX += (i == 0 ? -offset : offset);
-                    } else if (count == 3) {
-                        // Arrange in triangle
-                        if (i == 0) drawY -= offset;
-                        else if (i == 1) { drawX -= offset; drawY += offset; }
-                        else { drawX += offset; drawY += offset; }
-                    } else if (count == 4) {
-                        // Arrange in square
-                        if (i == 0) { drawX -= offset; drawY -= offset; }
-                        else if (i == 1) { drawX += offset; drawY -= offset; }
-                        else if (i == 2) { drawX -= offset; drawY += offset; }
-                        else { drawX += offset; drawY += offset; }
-                    } else if (count == 5) {
-                        // 4 in corners + 1 in center
-                        if (i == 0) { drawX -= offset; drawY -= offset; }
-                        else if (i == 1) { drawX += offset; drawY -= offset; }
-                        else if (i == 2) { drawX -= offset; drawY += offset; }
-                        else if (i == 3) { drawX += offset; drawY += offset; }
-                        // i == 4 stays at center
-                    } else {
-                        // Circle arrangement for 6 or more tokens
-                        double angle = Math.toRadians((i * 360.0 / count) - 90);
-                        drawX += (float) (Math.cos(angle) * offset * 1.1f);
-                        drawY += (float) (Math.sin(angle) * offset * 1.1f);
-                    }
-                    currentCellSize *= (count > 4 ? 0.65f : 0.75f); // Shrink stacked tokens
-                }
-
-                // Token Shadow
-                paint.setStyle(Paint.Style.FILL);
-                paint.setColor(Color.parseColor("#44000000"));
-                canvas.drawCircle(drawX + 4, drawY + 4, currentCellSize / 2.2f, paint);
-
-                // Token Outer Ring
-                paint.setColor(Color.WHITE);
-                canvas.drawCircle(drawX, drawY, currentCellSize / 2.2f, paint);
-
-                // Token Main Body
-                paint.setColor(token.color);
-                canvas.drawCircle(drawX, drawY, currentCellSize / 2.6f, paint);
-
-                // Inner decorative circle
-                paint.setColor(Color.parseColor("#33000000"));
-                paint.setStyle(Paint.Style.STROKE);
-                paint.setStrokeWidth(2);
-                canvas.drawCircle(drawX, drawY, currentCellSize / 4f, paint);
-            }
+    private boolean isMovable(int index) {
+        for (int i = 0; i < movableCount; i++) {
+            if (movableTokens[i] == index) return true;
         }
+        return false;
     }
-    
-    private static class TokenInfo {
-        int player, index, steps, color;
-        TokenInfo(int p, int i, int s, int c) {
-            player = p; index = i; steps = s; color = c;
+
+    private void layoutTokens() {
+        stacks.clear();
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            for (int t = 0; t < Board.TOKENS; t++) {
+                stacks.place(player, t, displaySteps(player, t), state.isPlayerActive(player));
+            }
         }
     }
 
-    private void drawBoard(Canvas canvas) {
-        // Clear background
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.WHITE);
-        canvas.drawRect(0, 0, 15 * cell, 15 * cell, paint);
-
-        // Highlight the Token Paths (Cross area) with a very light gray
-        paint.setColor(Color.parseColor("#F5F5F5"));
-        canvas.drawRect(6 * cell, 0, 9 * cell, 15 * cell, paint);
-        canvas.drawRect(0, 6 * cell, 15 * cell, 9 * cell, paint);
-
-        // Home Bases - Always visible
-        drawHomeBase(canvas, 0, 0, Color.parseColor("#E53935")); // Red
-        drawHomeBase(canvas, 9 * cell, 0, Color.parseColor("#43A047")); // Green
-        drawHomeBase(canvas, 0, 9 * cell, Color.parseColor("#FFB300")); // Yellow
-        drawHomeBase(canvas, 9 * cell, 9 * cell, Color.parseColor("#1E88E5")); // Blue
-
-        // Path Highlights (Colored rows - Home paths) - Always visible
-        paint.setStyle(Paint.Style.FILL);
-        
-        // Red
-        paint.setColor(Color.parseColor("#FFCDD2")); // Light Red
-        for(int i=1; i<=5; i++) canvas.drawRect(i*cell, 7*cell, (i+1)*cell, 8*cell, paint);
-        paint.setColor(Color.parseColor("#E53935"));
-        canvas.drawRect(1*cell, 6*cell, 2*cell, 7*cell, paint); // Red start
-        
-        // Green
-        paint.setColor(Color.parseColor("#C8E6C9")); // Light Green
-        for(int i=1; i<=5; i++) canvas.drawRect(7*cell, i*cell, 8*cell, (i+1)*cell, paint);
-        paint.setColor(Color.parseColor("#43A047"));
-        canvas.drawRect(8*cell, 1*cell, 9*cell, 2*cell, paint); // Green start
-        
-        // Yellow
-        paint.setColor(Color.parseColor("#FFF9C4")); // Light Yellow
-        for(int i=9; i<=13; i++) canvas.drawRect(7*cell, i*cell, 8*cell, (i+1)*cell, paint);
-        paint.setColor(Color.parseColor("#FFB300"));
-        canvas.drawRect(6*cell, 13*cell, 7*cell, 14*cell, paint); // Yellow start
-        
-        // Blue
-        paint.setColor(Color.parseColor("#BBDEFB")); // Light Blue
-        for(int i=9; i<=13; i++) canvas.drawRect(i*cell, 7*cell, (i+1)*cell, 8*cell, paint);
-        paint.setColor(Color.parseColor("#1E88E5"));
-        canvas.drawRect(13*cell, 8*cell, 14*cell, 9*cell, paint); // Blue start
+    private void drawToken(Canvas canvas, int player, int index) {
+        // Pop-up hint for movable tokens
+        boolean hinted = !isAnimating && player == currentPlayer && isMovable(index);
+        painter.drawToken(canvas, stacks, player, index, hinted ? hintScale : 1f);
+    }
 
-        // Grid lines (Thicker and darker for the path)
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(2.5f);
-        paint.setColor(Color.parseColor("#BDBDBD"));
-
-        // Path Grid
-        for (int i = 0; i <= 15; i++) {
-            if (i >= 6 && i <= 9) {
-                canvas.drawLine(i * cell, 0, i * cell, 15 * cell, paint);
-                canvas.drawLine(0, i * cell, 15 * cell, i * cell, paint);
-            }
-        }
-        for (int i = 0; i <= 15; i++) {
-            if (i < 6 || i > 9) {
-                canvas.drawLine(i * cell, 6 * cell, i * cell, 9 * cell, paint);
-                canvas.drawLine(6 * cell, i * cell, 9 * cell, i * cell, paint);
-            }
-        }
+    // ===== SURFACE RENDERING =====
+    public void attachSurface(BoardSurface surface) {
+        this.surface = surface;
+        surface.bind(this, snapshots, safeStarBitmap);
+    }
 
-        // Home Triangle (Center) - Always visible
-        paint.setStyle(Paint.Style.FILL);
-        Path homePath = new Path();
-        
-        // Red Triangle
-        homePath.reset(); homePath.moveTo(6*cell, 6*cell); homePath.lineTo(7.5f*cell, 7.5f*cell); homePath.lineTo(6*cell, 9*cell);
-        paint.setColor(Color.parseColor("#E53935")); canvas.drawPath(homePath, paint);
-        
-        // Green Triangle
-        homePath.reset(); homePath.moveTo(6*cell, 6*cell); homePath.lineTo(7.5f*cell, 7.5f*cell); homePath.lineTo(9*cell, 6*cell);
-        paint.setColor(Color.parseColor("#43A047")); canvas.drawPath(homePath, paint);
-        
-        // Yellow Triangle
-        homePath.reset(); homePath.moveTo(6*cell, 9*cell); homePath.lineTo(7.5f*cell, 7.5f*cell); homePath.lineTo(9*cell, 9*cell);
-        paint.setColor(Color.parseColor("#FFB300")); canvas.drawPath(homePath, paint);
-        
-        // Blue Triangle
-        homePath.reset(); homePath.moveTo(9*cell, 6*cell); homePath.lineTo(7.5f*cell, 7.5f*cell); homePath.lineTo(9*cell, 9*cell);
-        paint.setColor(Color.parseColor("#1E88E5")); canvas.drawPath(homePath, paint);
-        
-        // Final Center Square border
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setColor(Color.WHITE);
-        paint.setStrokeWidth(4);
-        canvas.drawRect(6*cell, 6*cell, 9*cell, 9*cell, paint);
+    public RenderMode getRenderMode() {
+        return renderMode;
     }
 
-    private void drawHomeBase(Canvas canvas, int x, int y, int color) {
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(color);
-        canvas.drawRect(x, y, x + 6 * cell, y + 6 * cell, paint);
-        paint.setColor(Color.WHITE);
-        canvas.drawRect(x + cell, y + cell, x + 5 * cell, y + 5 * cell, paint);
-
-        // Draw 4 circle holders in home base
-        paint.setColor(Color.parseColor("#EEEEEE"));
-        canvas.drawCircle(x + 2*cell, y + 2*cell, cell/1.2f, paint);
-        canvas.drawCircle(x + 4*cell, y + 2*cell, cell/1.2f, paint);
-        canvas.drawCircle(x + 2*cell, y + 4*cell, cell/1.2f, paint);
-        canvas.drawCircle(x + 4*cell, y + 4*cell, cell/1.2f, paint);
-    }
-
-    private void drawSafeStars(Canvas canvas) {
-        if (safeStarBitmap == null) return;
-        int starSize = (int)(cell * 0.8f);
-        Bitmap scaledStar = Bitmap.createScaledBitmap(safeStarBitmap, starSize, starSize, true);
-        for (int idx : safeSpots) {
-            float cx = path[idx][0] * cell + cell / 2f;
-            float cy = path[idx][1] * cell + cell / 2f;
-            canvas.drawBitmap(scaledStar, cx - starSize/2f, cy - starSize/2f, null);
-        }
+    public void setRenderMode(RenderMode mode) {
+        renderMode = mode;
+        if (surface != null) surface.setVisibility(mode == RenderMode.SURFACE ? VISIBLE : GONE);
+        refreshBoard();
     }
 
-    private PointF getTokenPosition(int player, int tokenIdx, int steps) {
-        if (steps == -1) {
-            float bx = (player == 2 || player == 4) ? 9 * cell : 0;
-            float by = (player == 3 || player == 4) ? 9 * cell : 0;
-            float tx = bx + cell * (2f + (tokenIdx % 2) * 2f);
-            float ty = by + cell * (2f + (tokenIdx / 2) * 2f);
-            return new PointF(tx, ty);
+    // Copies what this frame shows for the render thread
+    private void publishSnapshot() {
+        BoardSnapshot frame = snapshots.back();
+        for (int player = 1; player <= Board.PLAYERS; player++) {
+            frame.active[player] = state.isPlayerActive(player);
+            for (int t = 0; t < Board.TOKENS; t++) {
+                frame.steps[(player - 1) * Board.TOKENS + t] = displaySteps(player, t);
+            }
         }
-        int pathIdx;
-        if (steps <= 50) {
-            pathIdx = (startIndex[player - 1] + steps) % 52;
-        } else {
-            pathIdx = 52 + (player - 1) * 6 + (steps - 51);
+        frame.livePlayer = isAnimating ? animatingTokenPlayer : -1;
+        frame.liveIndex = isAnimating ? animatingTokenIndex : -1;
+        frame.liveX = tweenX;
+        frame.liveY = tweenY;
+        frame.liveScale = animationScale;
+
+        int mask = 0;
+        if (!isAnimating && hintAnimator != null) {
+            for (int m = 0; m < movableCount; m++) mask |= 1 << movableTokens[m];
         }
-        return new PointF(path[pathIdx][0] * cell + cell / 2f, path[pathIdx][1] * cell + cell / 2f);
+        frame.hintPlayer = currentPlayer;
+        frame.hintMask = mask;
+        frame.hintScale = hintScale;
+
+        snapshots.publish();
+        surface.requestRender();
     }
 
     @Override
     public boolean onTouchEvent(MotionEvent event) {
+        if (event.getAction() == MotionEvent.ACTION_DOWN) pressMovedToken = false;
+        // Debug builds: a long press that moved nothing switches render mode, to compare
+        // frame times. The choice is kept in "boardRenderer" for the next game.
+        if (BuildConfig.DEBUG && surface != null && event.getAction() == MotionEvent.ACTION_UP
+                && !pressMovedToken && event.getEventTime() - event.getDownTime() > RENDER_TOGGLE_PRESS_MS) {
+            setRenderMode(renderMode == RenderMode.VIEW ? RenderMode.SURFACE : RenderMode.VIEW);
+            getContext().getSharedPreferences("LudoPrefs", Context.MODE_PRIVATE).edit()
+                    .putString("boardRenderer", renderMode.name()).apply();
+            Toast.makeText(getContext(), "Board render mode: " + renderMode, Toast.LENGTH_SHORT).show();
+            return true;
+        }
         if (event.getAction() == MotionEvent.ACTION_DOWN && !isAnimating && diceValue > 0 && !moveMade && !isGameOver) {
-            float tx = (event.getX() - offsetX);
-            float ty = (event.getY() - offsetY);
-            int[] tokens = getTokens(currentPlayer);
-            for (int i = 0; i < 4; i++) {
-                PointF p = getTokenPosition(currentPlayer, i, tokens[i]);
-                double dist = Math.sqrt(Math.pow(p.x - tx, 2) + Math.pow(p.y - ty, 2));
-                if (dist < cell * 0.8f) {
-                    if (canMove(tokens[i], diceValue)) {
-                        stopHintAnimation();
-                        moveToken(tokens, i);
-                        return true;
-                    }
+            int hit = geometry.hitTest(event.getX() - offsetX, event.getY() - offsetY);
+            if (hit == BoardGeometry.NO_HIT) return true;
+            for (int i = 0; i < Board.TOKENS; i++) {
+                int steps = state.getSteps(currentPlayer, i);
+                if (BoardGeometry.hitCodeOf(currentPlayer, i, steps) == hit && Rules.canMove(steps, diceValue)) {
+                    stopHintAnimation();
+                    pressMovedToken = true;
+                    moveToken(i);
+                    return true;
                 }
             }
         }
         return true;
     }
 
-    private void moveToken(int[] tokens, int idx) {
+    private void moveToken(int idx) {
+        stateVersion++;
         moveMade = true;
         isAnimating = true;
         animatingTokenPlayer = currentPlayer;
         animatingTokenIndex = idx;
-        final int targetSteps = (tokens[idx] == -1) ? 0 : tokens[idx] + diceValue;
-        
-        handler.post(new Runnable() {
-            @Override
-            public void run() {
-                if (tokens[idx] < targetSteps) {
-                    tokens[idx]++;
-                    // Start scaling up for "pop" effect at the beginning of each step
-                    animationScale = 1.3f;
-                    invalidate();
-
-                    // Scale back down halfway through the step duration
-                    handler.postDelayed(() -> {
-                        animationScale = 1.0f;
-                        invalidate();
-                    }, 175);
-                    
-                    int resId = getResources().getIdentifier("token_move", "raw", getContext().getPackageName());
-                    if (resId != 0) {
-                        MusicManager.playSound(getContext(), resId);
-                    }
-                    handler.postDelayed(this, 350);
-                } else {
-                    isAnimating = false;
-                    animatingTokenPlayer = -1;
-                    animatingTokenIndex = -1;
-                    animationScale = 1.0f;
-                    onMoveComplete(tokens[idx]);
-                }
-            }
-        });
-    }
-
-    private void onMoveComplete(int finalSteps) {
-        boolean killed = false;
-        if (finalSteps <= 50) {
-            int pathIdx = (startIndex[currentPlayer - 1] + finalSteps) % 52;
-            killed = checkKill(pathIdx);
+        animatingSteps = state.getSteps(currentPlayer, idx);
+        animationScale = 1.0f;
+
+        tweenFrom = animatingSteps;
+        tweenSegments = tweenFrom == Board.HOME ? 1 : Rules.targetSteps(tweenFrom, diceValue) - tweenFrom;
+        tweenDurationNanos = clock.scale(tweenSegments * TurnTimings.TOKEN_STEP_MS) * 1_000_000L;
+        tweenStartNanos = 0;
+        tweenSegment = -1;
+        tweenX = geometry.tokenX(currentPlayer, idx, tweenFrom);
+        tweenY = geometry.tokenY(currentPlayer, idx, tweenFrom);
+        // The token leaves the layer and is drawn live until it lands
+        invalidateMovedTokens();
+        invalidateAt(tweenX, tweenY);
+
+        if (tweenDurationNanos == 0) {
+            clock.schedule(this::finishMove, 0);
+        } else {
+            Choreographer.getInstance().postFrameCallback(tweenFrame);
         }
-        boolean reachedGoal = (finalSteps == 56);
+    }
 
-        // Check if current player finished the game
-        if (isAllFinished(getTokens(currentPlayer)) && !winners.contains(currentPlayer)) {
-            winners.add(currentPlayer);
-        }
+    // Places the token along the polyline through its path cells for this frame
+    private void onTweenFrame(long frameTimeNanos) {
+        if (!isAnimating) return;
+        if (tweenStartNanos == 0) tweenStartNanos = frameTimeNanos;
+        float done = Math.min(1f, (frameTimeNanos - tweenStartNanos) / (float) tweenDurationNanos);
+        float progress = done * tweenSegments;
+        int segment = Math.min((int) progress, tweenSegments - 1);
+        float fraction = progress - segment;
 
-        diceValue = 0;
-        if (moveFinishedListener != null) {
-            moveFinishedListener.onMoveFinished(killed, reachedGoal);
+        if (segment != tweenSegment) {
+            tweenSegment = segment;
+            SoundEffects.play(getContext(), R.raw.token_move);
         }
-    }
 
-    private boolean checkKill(int pathIdx) {
-        if (isSafe(pathIdx)) return false;
-        
-        // Find all different color tokens at this position
-        List<OpponentToken> targetTokens = new ArrayList<>();
-        for (int p = 0; p < 4; p++) {
-            if (p + 1 == currentPlayer) continue;
-            int[] oppTokens = getTokens(p + 1);
-            for (int t = 0; t < 4; t++) {
-                if (oppTokens[t] != -1 && oppTokens[t] <= 50) {
-                    int oppPathIdx = (startIndex[p] + oppTokens[t]) % 52;
-                    if (oppPathIdx == pathIdx) {
-                        targetTokens.add(new OpponentToken(p + 1, t));
-                    }
-                }
-            }
+        int player = animatingTokenPlayer, index = animatingTokenIndex;
+        int from = tweenStep(segment), to = tweenStep(segment + 1);
+        float x = geometry.tokenX(player, index, from);
+        float y = geometry.tokenY(player, index, from);
+        invalidateAt(tweenX, tweenY);
+        tweenX = x + (geometry.tokenX(player, index, to) - x) * fraction;
+        tweenY = y + (geometry.tokenY(player, index, to) - y) * fraction;
+        animationScale = 1f + POP_SCALE * (float) Math.sin(Math.PI * fraction);
+        invalidateAt(tweenX, tweenY);
+
+        // Tokens sharing the cell it is passing make room for it
+        int nearest = tweenStep(Math.round(progress));
+        if (nearest != animatingSteps) {
+            animatingSteps = nearest;
+            invalidateMovedTokens();
         }
 
-        if (targetTokens.isEmpty()) return false;
-
-        // Logic: Kill the LAST token that reached this position.
-        OpponentToken target = targetTokens.get(targetTokens.size() - 1);
-        getTokens(target.player)[target.index] = -1;
-        
-        // Play kill sound (using dice roll as placeholder since specialized kill sound is missing)
-        int killResId = getResources().getIdentifier("kill_sound", "raw", getContext().getPackageName());
-        if (killResId != 0) {
-            MusicManager.playSound(getContext(), killResId);
+        if (done < 1f) {
+            Choreographer.getInstance().postFrameCallback(tweenFrame);
+        } else {
+            finishMove();
         }
-        
-        invalidate();
-        return true;
-    }
-    
-    private static class OpponentToken {
-        int player, index;
-        OpponentToken(int p, int i) { player = p; index = i; }
     }
 
-    private boolean isSafe(int pathIdx) {
-        for (int s : safeSpots) if (pathIdx == s) return true;
-        return false;
+    // Steps after this many hops; leaving home is a single hop onto the start cell
+    private int tweenStep(int hops) {
+        if (tweenFrom == Board.HOME) return hops == 0 ? Board.HOME : 0;
+        return tweenFrom + hops;
     }
 
-    private boolean canMove(int steps, int dice) {
-        if (steps == -1) return dice == 6;
-        return steps + dice <= 56;
+    private void finishMove() {
+        if (!isAnimating) return;
+        int idx = animatingTokenIndex;
+        animatingSteps = tweenStep(tweenSegments);
+        isAnimating = false;
+        animatingTokenPlayer = -1;
+        animatingTokenIndex = -1;
+        animationScale = 1.0f;
+        onMoveComplete(idx);
     }
 
-    public boolean hasMovableToken(int player, int dice) {
-        int[] tokens = getTokens(player);
-        int unfinishedCount = 0;
-        int lastTokenIndex = -1;
-        for (int i = 0; i < 4; i++) {
-            if (tokens[i] < 56) {
-                unfinishedCount++;
-                lastTokenIndex = i;
-            }
-        }
+    private void onMoveComplete(int idx) {
+        int flags = Rules.applyMove(state, currentPlayer, idx, diceValue);
+        boolean killed = (flags & Rules.MOVE_KILLED) != 0;
+        boolean reachedGoal = (flags & Rules.MOVE_REACHED_GOAL) != 0;
 
-        // Special Rule: If last token is "inside" home path (distance < 6), rolling a 6 will not work.
-        if (unfinishedCount == 1 && dice == 6) {
-            if (tokens[lastTokenIndex] > 50) return false;
+        if (killed) {
+            SoundEffects.play(getContext(), R.raw.kill_sound);
         }
+        // Covers the landing cell and any captured token's cell and home slot
+        invalidateMovedTokens();
+        invalidateToken(currentPlayer, idx, state.getSteps(currentPlayer, idx));
 
-        for (int t : tokens) if (canMove(t, dice)) return true;
-        return false;
+        diceValue = 0;
+        if (moveFinishedListener != null) {
+            moveFinishedListener.onMoveFinished(killed, reachedGoal);
+        }
     }
 
-    private int[] getTokens(int player) {
-        switch (player) {
-            case 1: return redTokens;
-            case 2: return greenTokens;
-            case 3: return yellowTokens;
-            case 4: return blueTokens;
-            default: return redTokens;
-        }
+    public boolean hasMovableToken(int player, int dice) {
+        return Rules.hasMovableToken(state, player, dice);
     }
 
     private void startHintAnimation() {
@@ -589,9 +548,11 @@ public class BoardView extends View {
         hintAnimator.setInterpolator(new AccelerateDecelerateInterpolator());
         hintAnimator.addUpdateListener(animation -> {
             hintScale = (float) animation.getAnimatedValue();
-            invalidate();
+            invalidateMovableTokens();
         });
         hintAnimator.start();
+        tokenLayerValid = false;
+        invalidateMovableTokens();
 
         if (waitingForMoveListener != null) {
             waitingForMoveListener.onWaitingForMove();
@@ -604,184 +565,81 @@ public class BoardView extends View {
             hintAnimator = null;
         }
         hintScale = 1.0f;
-        movableTokenIndices.clear();
-        invalidate();
+        tokenLayerValid = false;
+        invalidateMovableTokens();
+        movableCount = 0;
     }
 
     public void setTurn(int player, int dice) {
+        stateVersion++;
         this.currentPlayer = player;
         this.diceValue = dice;
         this.moveMade = false;
         
-        movableTokenIndices.clear();
-        int[] tokens = getTokens(player);
-        for (int i = 0; i < 4; i++) {
-            if (canMove(tokens[i], dice)) {
-                movableTokenIndices.add(i);
-            }
-        }
+        movableCount = Rules.movableTokens(state, player, dice, movableTokens);
 
-        if (movableTokenIndices.isEmpty()) {
-            handler.postDelayed(() -> {
+        if (movableCount == 0) {
+            clock.schedule(() -> {
                 if (moveFinishedListener != null) moveFinishedListener.onMoveFinished(false, false);
-            }, 1000);
-        } else if (movableTokenIndices.size() == 1) {
-            // Automatically move if only one token can move
-            int targetIdx = movableTokenIndices.get(0);
-            handler.postDelayed(() -> {
-                movableTokenIndices.clear();
-                moveToken(tokens, targetIdx);
-            }, 500);
+            }, TurnTimings.NO_MOVABLE_TOKEN_MS);
+        } else if (Rules.isForcedMove(state, player, movableTokens, movableCount)) {
+            // One token can move, or all that can are stacked (e.g. all at home on a six): move it automatically
+            int targetIdx = movableTokens[0];
+            clock.schedule(() -> {
+                movableCount = 0;
+                moveToken(targetIdx);
+            }, TurnTimings.AUTO_MOVE_MS);
         } else {
-            // Multiple tokens can move. Check if all movable tokens are at the same position.
-            boolean allAtSamePos = true;
-            int firstSteps = tokens[movableTokenIndices.get(0)];
-            for (int i = 1; i < movableTokenIndices.size(); i++) {
-                if (tokens[movableTokenIndices.get(i)] != firstSteps) {
-                    allAtSamePos = false;
-                    break;
-                }
-            }
-
-            if (allAtSamePos) {
-                // All movable tokens are at the same spot (stacked), move the first one automatically
-                int targetIdx = movableTokenIndices.get(0);
-                handler.postDelayed(() -> {
-                    movableTokenIndices.clear();
-                    moveToken(tokens, targetIdx);
-                }, 500);
-            } else {
-                // Movable tokens are at different spots, show hints for selection
-                if (dice == 6) {
-                    // Special case: if all 4 tokens are in home and dice is 6, move the first one automatically
-                    boolean allInHome = true;
-                    for (int t : tokens) {
-                        if (t != -1) {
-                            allInHome = false;
-                            break;
-                        }
-                    }
-                    if (allInHome) {
-                        handler.postDelayed(() -> {
-                            movableTokenIndices.clear();
-                            moveToken(tokens, 0);
-                        }, 500);
-                        return;
-                    }
-                }
-                startHintAnimation();
-            }
+            // Movable tokens are at different spots, show hints for selection
+            startHintAnimation();
         }
     }
 
     public void performAiMove() {
-        if (movableTokenIndices.isEmpty() || isAnimating) return;
-
-        int[] tokens = getTokens(currentPlayer);
-        int bestIndex = -1;
-        int maxPriority = -1;
-
-        for (int idx : movableTokenIndices) {
-            int priority = 1; // Default priority
-            int currentSteps = tokens[idx];
-            int targetSteps = (currentSteps == -1) ? 0 : currentSteps + diceValue;
-
-            // 1. Check if it can KILL an opponent (Highest priority)
-            if (targetSteps <= 50) {
-                int targetPathIdx = (startIndex[currentPlayer - 1] + targetSteps) % 52;
-                if (!isSafe(targetPathIdx)) {
-                    for (int p = 1; p <= 4; p++) {
-                        if (p == currentPlayer) continue;
-                        int[] oppTokens = getTokens(p);
-                        for (int ot : oppTokens) {
-                            if (ot != -1 && ot <= 50) {
-                                int oppPathIdx = (startIndex[p - 1] + ot) % 52;
-                                if (oppPathIdx == targetPathIdx) {
-                                    priority = 100; // Found a kill!
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-
-            // 2. Check if it can reach the GOAL (Second highest)
-            if (targetSteps == 56) {
-                priority = Math.max(priority, 90);
-            }
-
-            // 3. Move token OUT of home base (Third highest)
-            if (currentSteps == -1 && diceValue == 6) {
-                priority = Math.max(priority, 80);
-            }
-
-            // 4. Move token into HOME PATH (Fourth highest)
-            if (currentSteps <= 50 && targetSteps > 50) {
-                priority = Math.max(priority, 70);
-            }
-
-            // 5. Move a token that is IN DANGER (if an opponent is behind it)
-            if (currentSteps != -1 && currentSteps <= 50) {
-                int currentPathIdx = (startIndex[currentPlayer - 1] + currentSteps) % 52;
-                if (!isSafe(currentPathIdx)) {
-                    for (int p = 1; p <= 4; p++) {
-                        if (p == currentPlayer) continue;
-                        int[] oppTokens = getTokens(p);
-                        for (int ot : oppTokens) {
-                            if (ot != -1 && ot <= 50) {
-                                int oppPathIdx = (startIndex[p - 1] + ot) % 52;
-                                // If opponent is between 1 and 6 steps behind
-                                int dist = (currentPathIdx - oppPathIdx + 52) % 52;
-                                if (dist > 0 && dist <= 6) {
-                                    priority = Math.max(priority, 60);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-
-            // 6. Prefer tokens that are further ahead
-            priority = Math.max(priority, currentSteps + 10);
+        if (movableCount == 0 || isAnimating) return;
+
+        aiExecutor.request(state, currentPlayer, diceValue, movableTokens, movableCount, stateVersion,
+                (bestIndex, version, thinkMillis) -> {
+                    // Keep the usual pause before the computer moves, minus the time spent thinking
+                    long delay = Math.max(0, TurnTimings.AI_MOVE_DELAY_MS - thinkMillis);
+                    clock.schedule(() -> {
+                        if (version != stateVersion || moveMade || isAnimating || isGameOver) return;
+                        stopHintAnimation();
+                        moveToken(bestIndex);
+                    }, delay);
+                });
+    }
 
-            if (priority > maxPriority) {
-                priority = maxPriority;
-                bestIndex = idx;
-            }
-        }
+    // True while the current player has to pick one of several tokens
+    public boolean isWaitingForMove() {
+        return diceValue > 0 && movableCount > 1 && !moveMade && !isAnimating && !isGameOver;
+    }
 
-        if (bestIndex != -1) {
-            final int finalBestIndex = bestIndex;
-            handler.postDelayed(() -> {
-                stopHintAnimation();
-                moveToken(tokens, finalBestIndex);
-            }, 800);
-        }
+    // Drops any decision in flight, e.g. when the activity goes to the background
+    public void cancelAi() {
+        stateVersion++;
+        aiExecutor.cancel();
     }
 
-    public int getWinner() {
-        int activeCount = 0;
-        if (isPlayerActive(1)) activeCount++;
-        if (isPlayerActive(2)) activeCount++;
-        if (isPlayerActive(3)) activeCount++;
-        if (isPlayerActive(4)) activeCount++;
-
-        if (winners.size() >= activeCount - 1) {
-            return winners.isEmpty() ? 0 : winners.get(0);
-        }
-        return 0;
+    public void releaseAi() {
+        stateVersion++;
+        aiExecutor.shutdown();
     }
 
-    public boolean isPlayerFinished(int player) {
-        return winners.contains(player);
+    public int getWinner() {
+        return Rules.getWinner(state);
     }
 
-    public List<Integer> getWinnersList() {
-        return winners;
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        Choreographer.getInstance().removeFrameCallback(tweenFrame);
+        releaseAi();
+        releaseBoardLayer();
+        sprites.release();
     }
 
-    private boolean isAllFinished(int[] tokens) {
-        for (int t : tokens) if (t < 56) return false;
-        return true;
+    public boolean isPlayerFinished(int player) {
+        return state.isFinished(player);
     }
 }
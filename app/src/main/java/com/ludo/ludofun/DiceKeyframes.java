@@ -0,0 +1,123 @@
+package com.ludo.ludofun;
+
+// Precomputed dice roll: for each landing face and a few tumble axes, the
+// rotation and bounce height at evenly spaced points of the roll, with the
+// ease-in/ease-out already applied. Sampling blends in from the face the die
+// was resting on and never allocates.
+public final class DiceKeyframes {
+
+    public static final int VARIANTS = 4;
+
+    private static final int SAMPLES = 91; // 90 intervals, one per frame at 60 fps for 1.5 s
+    private static final float TURNS_DEGREES = 1800f; // whole turns, so the tumble ends on the face
+    private static final float BOUNCE_HEIGHT = 0.4f;
+    private static final float BLEND_IN = 0.1f; // fraction of the roll spent leaving the resting face
+
+    // Tumble axes, normalised below; picked at random for each roll
+    private static final float[][] AXES = {
+            {1.3f, 0.7f, 0.4f},
+            {0.6f, 1.4f, 0.9f},
+            {1.1f, 1.2f, 0.1f},
+            {0.8f, 0.6f, 0.7f},
+    };
+
+    // Resting rotation for faces 1-6 as x, y, z, w
+    private static final float[][] FACES = new float[7][];
+
+    // [face][variant] -> SAMPLES * 4 quaternion components
+    private static final float[][][] ROTATIONS = new float[7][VARIANTS][SAMPLES * 4];
+    private static final float[] HEIGHTS = new float[SAMPLES];
+
+    static {
+        FACES[1] = axisAngle(0, 1, 0, -90);
+        FACES[2] = new float[] {0, 0, 0, 1};
+        FACES[3] = axisAngle(1, 0, 0, -90);
+        FACES[4] = axisAngle(1, 0, 0, 90);
+        FACES[5] = axisAngle(0, 1, 0, 180);
+        FACES[6] = axisAngle(0, 1, 0, 90);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            float eased = ease((float) i / (SAMPLES - 1));
+            float d = eased - 0.5f;
+            HEIGHTS[i] = -4 * BOUNCE_HEIGHT * d * d + BOUNCE_HEIGHT;
+            for (int v = 0; v < VARIANTS; v++) {
+                float[] axis = AXES[v];
+                float length = (float) Math.sqrt(axis[0] * axis[0] + axis[1] * axis[1] + axis[2] * axis[2]);
+                // Spin the remaining turns about the axis on top of the landing face
+                float[] spin = axisAngle(axis[0] / length, axis[1] / length, axis[2] / length,
+                        -(1 - eased) * TURNS_DEGREES);
+                for (int face = 1; face <= 6; face++) {
+                    multiply(spin, FACES[face], ROTATIONS[face][v], i * 4);
+                }
+            }
+        }
+    }
+
+    private DiceKeyframes() {}
+
+    // Writes the resting rotation of a face into out[0..3]
+    public static void face(int face, float[] out) {
+        System.arraycopy(FACES[face], 0, out, 0, 4);
+    }
+
+    /**
+     * Writes the rotation (x, y, z, w) into out[0..3] and the bounce height
+     * into out[4] for a roll from fromFace that lands on face. The fraction is
+     * linear time through the roll, 0 to 1.
+     */
+    public static void sample(int fromFace, int face, int variant, float fraction, float[] out) {
+        float position = Math.max(0f, Math.min(1f, fraction)) * (SAMPLES - 1);
+        int i = Math.min((int) position, SAMPLES - 2);
+        float t = position - i;
+
+        float[] table = ROTATIONS[face][variant];
+        int a = i * 4, b = a + 4;
+        nlerp(table[a], table[a + 1], table[a + 2], table[a + 3],
+                table[b], table[b + 1], table[b + 2], table[b + 3], t, out);
+        if (fraction < BLEND_IN) {
+            float[] from = FACES[fromFace];
+            nlerp(from[0], from[1], from[2], from[3], out[0], out[1], out[2], out[3],
+                    ease(fraction / BLEND_IN), out);
+        }
+        out[4] = HEIGHTS[i] + (HEIGHTS[i + 1] - HEIGHTS[i]) * t;
+    }
+
+    // Same curve as AccelerateDecelerateInterpolator
+    private static float ease(float t) {
+        return (float) (Math.cos((t + 1) * Math.PI) / 2 + 0.5);
+    }
+
+    private static float[] axisAngle(float x, float y, float z, float degrees) {
+        double half = Math.toRadians(degrees) / 2;
+        float sin = (float) Math.sin(half);
+        return new float[] {x * sin, y * sin, z * sin, (float) Math.cos(half)};
+    }
+
+    // out = l * r, written at offset
+    private static void multiply(float[] l, float[] r, float[] out, int offset) {
+        out[offset] = l[3] * r[0] + l[0] * r[3] + l[1] * r[2] - l[2] * r[1];
+        out[offset + 1] = l[3] * r[1] - l[0] * r[2] + l[1] * r[3] + l[2] * r[0];
+        out[offset + 2] = l[3] * r[2] + l[0] * r[1] - l[1] * r[0] + l[2] * r[3];
+        out[offset + 3] = l[3] * r[3] - l[0] * r[0] - l[1] * r[1] - l[2] * r[2];
+    }
+
+    // Normalised lerp along the shorter arc
+    private static void nlerp(float ax, float ay, float az, float aw,
+                              float bx, float by, float bz, float bw, float t, float[] out) {
+        if (ax * bx + ay * by + az * bz + aw * bw < 0) {
+            bx = -bx;
+            by = -by;
+            bz = -bz;
+            bw = -bw;
+        }
+        float x = ax + (bx - ax) * t;
+        float y = ay + (by - ay) * t;
+        float z = az + (bz - az) * t;
+        float w = aw + (bw - aw) * t;
+        float length = (float) Math.sqrt(x * x + y * y + z * z + w * w);
+        out[0] = x / length;
+        out[1] = y / length;
+        out[2] = z / length;
+        out[3] = w / length;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ludo.ludofun;
+
+import android.content.Context;
+import android.net.Uri;
+import android.util.Log;
+
+import com.google.ar.sceneform.rendering.ModelRenderable;
+
+import java.util.concurrent.CompletableFuture;
+
+// Loads the dice glTF model once per process. SplashActivity starts the load
+// so it is usually finished by the time a game opens; each dice node takes
+// its own copy, which shares the parsed model and its GPU buffers.
+public final class DiceModel {
+
+    private static final String TAG = "DiceModel";
+    private static final String ASSET = "dice (1).glb";
+
+    private static CompletableFuture<ModelRenderable> model;
+
+    private DiceModel() {}
+
+    // Starts loading if nothing is loaded or loading yet. Call on the main thread.
+    public static void preload(Context context) {
+        get(context);
+    }
+
+    // Completes with a fresh copy for one node; fails if the model cannot be loaded
+    public static CompletableFuture<ModelRenderable> newInstance(Context context) {
+        return get(context).thenApply(ModelRenderable::makeCopy);
+    }
+
+    private static synchronized CompletableFuture<ModelRenderable> get(Context context) {
+        if (model == null) {
+            CompletableFuture<ModelRenderable> loading = ModelRenderable.builder()
+                    .setSource(context.getApplicationContext(), Uri.parse(ASSET))
+                    .setIsFilamentGltf(true)
+                    .build();
+            model = loading;
+            loading.exceptionally(throwable -> {
+                Log.w(TAG, "Dice model unavailable", throwable);
+                forget(loading);
+                return null;
+            });
+        }
+        return model;
+    }
+
+    // A failed load is dropped so the next game tries again
+    private static synchronized void forget(CompletableFuture<ModelRenderable> failed) {
+        if (model == failed) model = null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ludo.ludofun;
+
+import android.view.View;
+
+// One die on the game screen. GameActivity places the view, rolls the number
+// and decides what happens next; a renderer only shows the die.
+public interface DiceRenderer {
+
+    // "diceRenderer" preference. AUTO picks the 2D dice on low-end devices and
+    // once the 3D dice has been seen to jank; MODEL and SPRITE are the player's override.
+    enum Mode { AUTO, MODEL, SPRITE }
+
+    // Called on the main thread
+    interface Listener {
+        // The die can be rolled from now on
+        void onReady();
+
+        // The die can never be shown; the game should switch renderer
+        void onLoadFailed();
+
+        // Rolls keep dropping frames on this device
+        void onJank();
+    }
+
+    View getView();
+
+    // False while the die is still loading; rolls then resolve at once
+    boolean isReady();
+
+    // Shows a face at rest, cancelling any roll in progress without landing it
+    void showFace(int face);
+
+    // Animates a roll landing on face and then runs onLanded
+    void roll(int face, long durationMs, Runnable onLanded);
+
+    // Frames drawn so far, for debug logging of what the die costs over a game
+    long getFramesRendered();
+
+    void resume();
+
+    void pause();
+
+    void destroy();
+}
@@ -0,0 +1,40 @@
+package com.ludo.ludofun;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.util.Log;
+
+import com.ludo.ludofun.engine.Tablebase;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// Memory-maps the endgame table shipped in the assets. The asset is stored
+// uncompressed (see noCompress in build.gradle.kts), so pages are only read
+// when a lookup touches them.
+public final class EndgameTablebase {
+
+    private static final String TAG = "EndgameTablebase";
+    private static final String ASSET = "endgame.ltb";
+
+    private static Tablebase instance;
+
+    private EndgameTablebase() {}
+
+    // Returns null if the table is missing or unreadable; callers fall back to search
+    public static synchronized Tablebase get(Context context) {
+        if (instance != null) return instance;
+        try (AssetFileDescriptor fd = context.getAssets().openFd(ASSET);
+             FileInputStream in = new FileInputStream(fd.getFileDescriptor());
+             FileChannel channel = in.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    fd.getStartOffset(), fd.getLength());
+            instance = Tablebase.from(buffer);
+        } catch (IOException | IllegalArgumentException e) {
+            Log.w(TAG, "Endgame table unavailable", e);
+        }
+        return instance;
+    }
+}
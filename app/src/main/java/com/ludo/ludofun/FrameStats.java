@@ -0,0 +1,59 @@
+package com.ludo.ludofun;
+
+import android.os.Debug;
+import android.util.Log;
+
+import java.util.Arrays;
+
+// Debug-build frame probe. Collects draw times and logs mean, 95th percentile and
+// worst over every WINDOW frames, and fails fast when a steady-state frame
+// allocates on the drawing thread. Recording allocates nothing; only the log does.
+public final class FrameStats {
+
+    private static final String TAG = "FrameStats";
+    private static final int WINDOW = 120;
+
+    private final String label;
+    private final long[] samples = new long[WINDOW];
+    private int count;
+    private long frameStart;
+    private boolean countingAllocations;
+
+    public FrameStats(String label) {
+        this.label = label;
+    }
+
+    @SuppressWarnings("deprecation")
+    public void beginFrame() {
+        if (!countingAllocations) {
+            Debug.startAllocCounting();
+            countingAllocations = true;
+        }
+        Debug.resetThreadAllocCount();
+        frameStart = System.nanoTime();
+    }
+
+    // steady is false for frames that legitimately allocate, e.g. rebuilding a cache
+    @SuppressWarnings("deprecation")
+    public void endFrame(boolean steady) {
+        long nanos = System.nanoTime() - frameStart;
+        int allocations = Debug.getThreadAllocCount();
+        if (steady && allocations != 0) {
+            throw new IllegalStateException(label + " allocated " + allocations + " objects in one frame");
+        }
+        record(nanos);
+    }
+
+    public void record(long nanos) {
+        samples[count++] = nanos;
+        if (count < WINDOW) return;
+        count = 0;
+
+        long total = 0;
+        for (long sample : samples) total += sample;
+        Arrays.sort(samples);
+        Log.d(TAG, String.format("%s over %d frames: mean %.3f ms, p95 %.3f ms, max %.3f ms",
+                label, WINDOW, total / (double) WINDOW / 1e6,
+                samples[WINDOW * 95 / 100] / 1e6, samples[WINDOW - 1] / 1e6));
+    }
+}
@@ -7,53 +7,70 @@ import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
 import android.animation.ValueAnimator;
 import android.annotation.SuppressLint;
-import android.content.SharedPreferences;
+import android.app.ActivityManager;
 import android.graphics.Color;
 import android.graphics.LinearGradient;
 import android.graphics.Shader;
 import android.graphics.drawable.GradientDrawable;
-import android.net.Uri;
 import android.os.Bundle;
-import android.os.Handler;
+import android.os.Debug;
+import android.os.SystemClock;
+import android.util.Log;
 import android.view.View;
 import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.AnticipateOvershootInterpolator;
 import android.view.animation.OvershootInterpolator;
 import android.widget.ImageView;
 import android.widget.TextView;
+import android.widget.Toast;
 
 import androidx.activity.OnBackPressedCallback;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.constraintlayout.widget.ConstraintLayout;
+import androidx.lifecycle.Lifecycle;
 
-import com.google.ar.sceneform.Node;
-import com.google.ar.sceneform.SceneView;
-import com.google.ar.sceneform.math.Quaternion;
-import com.google.ar.sceneform.math.Vector3;
-import com.google.ar.sceneform.rendering.ModelRenderable;
+import com.ludo.ludofun.engine.GameSnapshot;
+import com.ludo.ludofun.engine.GameSpeed;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+import com.ludo.ludofun.engine.TurnTimings;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-
-import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 
 public class GameActivity extends AppCompatActivity {
 
+    private static final String TAG = "GameActivity";
+    // Dice corners: the view sits outside the board edge, inset from its side
+    private static final int DICE_OUTSIDE_DP = -100;
+    private static final int DICE_INSET_DP = 25;
+    private static final int DICE_SIZE_DP = 80;
+    private static final int DICE_ELEVATION_DP = 20;
+    private static final int STATS_LOG_ROLLS = 40;
+    // Devices below either limit get the 2D dice in AUTO mode
+    private static final int LOW_END_MEMORY_CLASS_MB = 128;
+    private static final int LOW_END_CORES = 4;
+
     private TextView tvTurn, tvCountdown;
+    private TextView btnSpeed;
     private View countdownContainer;
-    private SceneView diceRed, diceGreen, diceYellow, diceBlue;
+    private ConstraintLayout gameRoot;
+    // One die for all players; its view moves to the current player's corner
+    private DiceRenderer dice;
+    private DiceRenderer.Mode diceMode;
     private ImageView winRed, winGreen, winYellow, winBlue;
-    private Node diceNodeRed, diceNodeGreen, diceNodeYellow, diceNodeBlue;
-    private SceneView activeDiceView;
+    private View activeDiceView;
+    private int rollCount = 0;
+    private long createdAt;
     private BoardView boardView;
+    private GameState state;
 
-    private int currentPlayer = 1;
     private int lastDiceValue = 0;
-    private int consecutiveSixes = 0;
     private int totalPlayers;
     private boolean isVsComputer = false;
     private Random random = new Random();
-    private Handler handler = new Handler();
+    // Every pause in the game goes through this clock; its speed applies to all of them
+    private final HandlerGameClock clock = new HandlerGameClock();
     private AnimatorSet idleAnimator;
     private boolean isGameOverFlag = false;
 
@@ -61,21 +78,27 @@ public class GameActivity extends AppCompatActivity {
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        createdAt = SystemClock.uptimeMillis();
         setContentView(R.layout.activity_game);
 
         // Start background music
         MusicManager.playMusic(this, R.raw.splash_sound);
 
-        boolean isResume = getIntent().getBooleanExtra("resume", false);
-        if (isResume) {
-            SharedPreferences prefs = getSharedPreferences("LudoPrefs", MODE_PRIVATE);
-            totalPlayers = prefs.getInt("totalPlayers", 4);
-            isVsComputer = prefs.getBoolean("isVsComputer", false);
-            currentPlayer = prefs.getInt("currentPlayer", 1);
+        GameState saved = null;
+        int startSeat;
+        if (getIntent().getBooleanExtra("resume", false)) {
+            saved = new GameState(4);
+            int flags = GameSaveFile.load(this, saved);
+            if (flags == GameSaveFile.NO_SAVE) saved = null; // nothing to resume after all; start fresh
+            else isVsComputer = (flags & GameSnapshot.FLAG_VS_COMPUTER) != 0;
+        }
+        if (saved != null) {
+            totalPlayers = saved.getTotalPlayers();
+            startSeat = saved.getCurrentSeat();
         } else {
             totalPlayers = getIntent().getIntExtra("players", 4);
             isVsComputer = getIntent().getBooleanExtra("vsComputer", false);
-            currentPlayer = random.nextInt(totalPlayers) + 1;
+            startSeat = random.nextInt(totalPlayers) + 1;
         }
 
         tvTurn = findViewById(R.id.tvTurn);
@@ -84,26 +107,35 @@ public class GameActivity extends AppCompatActivity {
         countdownContainer = findViewById(R.id.countdown_container);
         tvCountdown = findViewById(R.id.tvCountdown);
 
+        clock.setSpeed(readGameSpeed());
+        btnSpeed = findViewById(R.id.btnSpeed);
+        btnSpeed.setText(speedLabel(clock.getSpeed()));
+        btnSpeed.setOnClickListener(v -> cycleGameSpeed());
+
         boardView = findViewById(R.id.boardView);
+        boardView.setClock(clock);
+        boardView.attachSurface(findViewById(R.id.boardSurface));
+        boardView.setRenderMode(readRenderMode());
+        if (BuildConfig.DEBUG) {
+            // Developer switch: tint the region each frame asked to repaint
+            boardView.setShowRepaints(getSharedPreferences("LudoPrefs", MODE_PRIVATE).getBoolean("showRepaints", false));
+        }
         boardView.setTotalPlayers(totalPlayers);
+        state = boardView.getState();
+        state.setCurrentSeat(startSeat);
 
-        diceRed = findViewById(R.id.dice_red);
-        diceGreen = findViewById(R.id.dice_green);
-        diceYellow = findViewById(R.id.dice_yellow);
-        diceBlue = findViewById(R.id.dice_blue);
+        gameRoot = findViewById(R.id.game_root);
 
         winRed = findViewById(R.id.win_red);
         winGreen = findViewById(R.id.win_green);
         winYellow = findViewById(R.id.win_yellow);
         winBlue = findViewById(R.id.win_blue);
 
-        setup3DDice(diceRed, 1);
-        setup3DDice(diceGreen, 2);
-        setup3DDice(diceYellow, 3);
-        setup3DDice(diceBlue, 4);
+        diceMode = readDiceMode();
+        installDice(createDice(useSpriteDice()));
 
-        if (isResume) {
-            loadGameState();
+        if (saved != null) {
+            loadGameState(saved);
             updateDiceVisibility();
         } else {
             saveGameState(); // Initial save
@@ -124,7 +156,7 @@ public class GameActivity extends AppCompatActivity {
                 return;
             }
 
-            int ludoPlayer = getLudoPlayer(currentPlayer);
+            int ludoPlayer = state.getCurrentPlayer();
 
             if (boardView.isPlayerFinished(ludoPlayer)) {
                 nextPlayer();
@@ -196,7 +228,7 @@ public class GameActivity extends AppCompatActivity {
         set.setInterpolator(new AnticipateOvershootInterpolator());
         set.start();
         
-        MusicManager.playSound(this, R.raw.win_sound_end);
+        SoundEffects.play(this, R.raw.win_sound_end);
     }
 
     private void animateSequence(final String[] sequence, final int index) {
@@ -221,19 +253,19 @@ public class GameActivity extends AppCompatActivity {
 
         AnimatorSet set = new AnimatorSet();
         set.playTogether(scaleX, scaleY, alpha, rotation);
-        set.setDuration(800);
+        set.setDuration(clock.scale(TurnTimings.COUNTDOWN_IN_MS));
         set.setInterpolator(new OvershootInterpolator(1.5f));
         set.addListener(new AnimatorListenerAdapter() {
             @Override
             public void onAnimationEnd(Animator animation) {
-                new Handler().postDelayed(() -> {
+                clock.schedule(() -> {
                     ObjectAnimator fadeOutAlpha = ObjectAnimator.ofFloat(tvCountdown, "alpha", 1f, 0f);
                     ObjectAnimator fadeOutScaleX = ObjectAnimator.ofFloat(tvCountdown, "scaleX", 1f, 2f);
                     ObjectAnimator fadeOutScaleY = ObjectAnimator.ofFloat(tvCountdown, "scaleY", 1f, 2f);
                     
                     AnimatorSet fadeOut = new AnimatorSet();
                     fadeOut.playTogether(fadeOutAlpha, fadeOutScaleX, fadeOutScaleY);
-                    fadeOut.setDuration(300);
+                    fadeOut.setDuration(clock.scale(TurnTimings.COUNTDOWN_OUT_MS));
                     fadeOut.addListener(new AnimatorListenerAdapter() {
                         @Override
                         public void onAnimationEnd(Animator animation) {
@@ -243,7 +275,7 @@ public class GameActivity extends AppCompatActivity {
                         }
                     });
                     fadeOut.start();
-                }, 400);
+                }, TurnTimings.COUNTDOWN_HOLD_MS);
             }
         });
         set.start();
@@ -251,86 +283,77 @@ public class GameActivity extends AppCompatActivity {
 
     private void saveGameState() {
         if (isGameOverFlag) return;
-        
-        SharedPreferences prefs = getSharedPreferences("LudoPrefs", MODE_PRIVATE);
-        SharedPreferences.Editor editor = prefs.edit();
-        
-        try {
-            editor.putBoolean("hasSavedGame", true);
-            editor.putInt("totalPlayers", totalPlayers);
-            editor.putBoolean("isVsComputer", isVsComputer);
-            editor.putInt("currentPlayer", currentPlayer);
-            
-            editor.putString("redTokens", arrayToJson(boardView.getRedTokens()));
-            editor.putString("greenTokens", arrayToJson(boardView.getGreenTokens()));
-            editor.putString("yellowTokens", arrayToJson(boardView.getYellowTokens()));
-            editor.putString("blueTokens", arrayToJson(boardView.getBlueTokens()));
-            
-            JSONArray winnersArray = new JSONArray();
-            for (int w : boardView.getWinnersList()) winnersArray.put(w);
-            editor.putString("winners", winnersArray.toString());
-            
-            editor.apply();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        GameSaveFile.save(this, state, isVsComputer ? GameSnapshot.FLAG_VS_COMPUTER : 0);
     }
 
-    private String arrayToJson(int[] tokens) {
-        JSONArray arr = new JSONArray();
-        for (int t : tokens) arr.put(t);
-        return arr.toString();
+    private void loadGameState(GameState saved) {
+        state.copyFrom(saved);
+        boardView.refreshBoard();
+        checkAndShowWinners();
     }
 
-    private void loadGameState() {
-        SharedPreferences prefs = getSharedPreferences("LudoPrefs", MODE_PRIVATE);
+    private void clearGameState() {
+        GameSaveFile.clear(this);
+    }
+
+    // Board drawing on the UI thread or on its own render thread. SURFACE is a
+    // debug-only mode, picked with a long press on the board and kept in "boardRenderer".
+    private BoardView.RenderMode readRenderMode() {
+        if (!BuildConfig.DEBUG) return BoardView.RenderMode.VIEW;
+        String name = getSharedPreferences("LudoPrefs", MODE_PRIVATE)
+                .getString("boardRenderer", BoardView.RenderMode.VIEW.name());
         try {
-            boardView.setRedTokens(jsonToArray(prefs.getString("redTokens", "[-1,-1,-1,-1]")));
-            boardView.setGreenTokens(jsonToArray(prefs.getString("greenTokens", "[-1,-1,-1,-1]")));
-            boardView.setYellowTokens(jsonToArray(prefs.getString("yellowTokens", "[-1,-1,-1,-1]")));
-            boardView.setBlueTokens(jsonToArray(prefs.getString("blueTokens", "[-1,-1,-1,-1]")));
-            
-            JSONArray winnersArray = new JSONArray(prefs.getString("winners", "[]"));
-            boardView.getWinnersList().clear();
-            for (int i = 0; i < winnersArray.length(); i++) {
-                boardView.getWinnersList().add(winnersArray.getInt(i));
-            }
-            checkAndShowWinners();
-        } catch (JSONException e) {
-            e.printStackTrace();
+            return BoardView.RenderMode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return BoardView.RenderMode.VIEW;
         }
     }
 
-    private int[] jsonToArray(String json) throws JSONException {
-        JSONArray arr = new JSONArray(json);
-        int[] res = new int[arr.length()];
-        for (int i = 0; i < arr.length(); i++) res[i] = arr.getInt(i);
-        return res;
+    // The last speed picked with the speed button ("gameSpeed" = NORMAL, FAST or INSTANT)
+    private GameSpeed readGameSpeed() {
+        String name = getSharedPreferences("LudoPrefs", MODE_PRIVATE)
+                .getString("gameSpeed", GameSpeed.NORMAL.name());
+        try {
+            return GameSpeed.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return GameSpeed.NORMAL;
+        }
     }
 
-    private void clearGameState() {
-        SharedPreferences prefs = getSharedPreferences("LudoPrefs", MODE_PRIVATE);
-        prefs.edit().putBoolean("hasSavedGame", false).apply();
+    // Speed button: 1x -> 4x -> instant. Pauses already waiting keep their length.
+    private void cycleGameSpeed() {
+        GameSpeed[] speeds = GameSpeed.values();
+        GameSpeed speed = speeds[(clock.getSpeed().ordinal() + 1) % speeds.length];
+        clock.setSpeed(speed);
+        btnSpeed.setText(speedLabel(speed));
+        getSharedPreferences("LudoPrefs", MODE_PRIVATE).edit().putString("gameSpeed", speed.name()).apply();
+    }
+
+    private static String speedLabel(GameSpeed speed) {
+        switch (speed) {
+            case FAST: return "4x";
+            case INSTANT: return "Instant";
+            default: return "1x";
+        }
     }
 
     private boolean isComputerTurn() {
-        return isVsComputer && currentPlayer == 2;
+        return isVsComputer && state.getCurrentSeat() == 2;
     }
 
     private void checkAndPerformAiAction() {
         if (isVsComputer && isComputerTurn() && !isGameOverFlag) {
-            handler.postDelayed(() -> {
+            clock.schedule(() -> {
                 if (activeDiceView != null && activeDiceView.isEnabled()) {
-                    rollDice3D();
+                    rollDice();
                 }
-            }, 1000);
+            }, TurnTimings.AI_ROLL_DELAY_MS);
         }
     }
 
     private void checkAndShowWinners() {
-        List<Integer> winners = boardView.getWinnersList();
-        for (int i = 0; i < winners.size(); i++) {
-            int player = winners.get(i);
+        for (int i = 0; i < state.getWinnerCount(); i++) {
+            int player = state.getWinner(i);
             ImageView winImg = null;
             switch (player) {
                 case 1: winImg = winRed; break;
@@ -356,7 +379,7 @@ public class GameActivity extends AppCompatActivity {
         stopIdleAnimation();
         if (activeDiceView == null) return;
 
-        int ludoPlayer = getLudoPlayer(currentPlayer);
+        int ludoPlayer = state.getCurrentPlayer();
         int color;
         switch (ludoPlayer) {
             case 1: color = Color.parseColor("#E53935"); break;
@@ -400,181 +423,206 @@ public class GameActivity extends AppCompatActivity {
         }
     }
 
-    private void setup3DDice(SceneView sceneView, int player) {
-        ModelRenderable.builder()
-                .setSource(this, Uri.parse("dice (1).glb"))
-                .setIsFilamentGltf(true)
-                .build()
-                .thenAccept(renderable -> {
-                    Node node = new Node();
-                    node.setRenderable(renderable);
-                    node.setParent(sceneView.getScene());
-                    node.setLocalPosition(new Vector3(0f, 0f, -3f));
-                    node.setLocalScale(new Vector3(1.6f, 1.6f, 1.6f));
-
-                    switch (player) {
-                        case 1: diceNodeRed = node; break;
-                        case 2: diceNodeGreen = node; break;
-                        case 3: diceNodeYellow = node; break;
-                        case 4: diceNodeBlue = node; break;
-                    }
-                    node.setLocalRotation(getRotationForFace(6));
+    private final DiceRenderer.Listener diceListener = new DiceRenderer.Listener() {
+        @Override
+        public void onReady() {
+            if (BuildConfig.DEBUG) {
+                Log.d(TAG, "Dice model ready " + (SystemClock.uptimeMillis() - createdAt) + " ms after onCreate");
+            }
+            logMemory("dice loaded");
+            if (isVsComputer && isComputerTurn() && activeDiceView != null && activeDiceView.isEnabled()) {
+                checkAndPerformAiAction();
+            }
+        }
 
-                    if (isVsComputer && isComputerTurn() && activeDiceView != null && activeDiceView.isEnabled()) {
-                        checkAndPerformAiAction();
-                    }
-                })
-                .exceptionally(throwable -> null);
+        @Override
+        public void onLoadFailed() {
+            Log.w(TAG, "3D dice unavailable, using 2D dice");
+            installDice(createDice(true));
+        }
+
+        @Override
+        public void onJank() {
+            // Only an automatic choice is overruled; it stays 2D on later launches too
+            if (diceMode != DiceRenderer.Mode.AUTO) return;
+            Log.i(TAG, "3D dice dropping frames, switching to 2D dice");
+            getSharedPreferences("LudoPrefs", MODE_PRIVATE).edit().putBoolean("diceJank", true).apply();
+            installDice(createDice(true));
+        }
+    };
+
+    private DiceRenderer createDice(boolean sprite) {
+        return sprite ? new SpriteDiceRenderer(this) : new SceneDiceRenderer(this, diceListener);
+    }
+
+    private DiceRenderer.Mode readDiceMode() {
+        String name = getSharedPreferences("LudoPrefs", MODE_PRIVATE)
+                .getString("diceRenderer", DiceRenderer.Mode.AUTO.name());
+        try {
+            return DiceRenderer.Mode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return DiceRenderer.Mode.AUTO;
+        }
+    }
+
+    private boolean useSpriteDice() {
+        switch (diceMode) {
+            case MODEL: return false;
+            case SPRITE: return true;
+            default:
+                ActivityManager activityManager = (ActivityManager) getSystemService(ACTIVITY_SERVICE);
+                return activityManager.isLowRamDevice()
+                        || activityManager.getMemoryClass() < LOW_END_MEMORY_CLASS_MB
+                        || Runtime.getRuntime().availableProcessors() < LOW_END_CORES
+                        || getSharedPreferences("LudoPrefs", MODE_PRIVATE).getBoolean("diceJank", false);
+        }
     }
 
-    private void rollDice3D() {
+    // Long press on the die: Auto -> 3D -> 2D
+    private void cycleDiceMode() {
+        DiceRenderer.Mode[] modes = DiceRenderer.Mode.values();
+        diceMode = modes[(diceMode.ordinal() + 1) % modes.length];
+        getSharedPreferences("LudoPrefs", MODE_PRIVATE).edit().putString("diceRenderer", diceMode.name()).apply();
+        boolean sprite = useSpriteDice();
+        if (sprite != dice instanceof SpriteDiceRenderer) installDice(createDice(sprite));
+        Toast.makeText(this, "Dice: " + diceMode.name().toLowerCase(Locale.ROOT) + (sprite ? " (2D)" : " (3D)"),
+                Toast.LENGTH_SHORT).show();
+    }
+
+    // Puts a renderer's view where the current one is, keeping its corner, visibility and state
+    private void installDice(DiceRenderer renderer) {
+        View view = renderer.getView();
+        boolean active = activeDiceView != null;
+        boolean enabled = active && activeDiceView.isEnabled();
+        stopIdleAnimation();
+
+        ConstraintLayout.LayoutParams params;
+        int visibility = View.GONE;
+        if (dice != null) {
+            View old = dice.getView();
+            params = (ConstraintLayout.LayoutParams) old.getLayoutParams();
+            visibility = old.getVisibility();
+            gameRoot.removeView(old);
+            dice.destroy();
+        } else {
+            int size = Math.round(DICE_SIZE_DP * getResources().getDisplayMetrics().density);
+            params = new ConstraintLayout.LayoutParams(size, size);
+        }
+        view.setElevation(DICE_ELEVATION_DP * getResources().getDisplayMetrics().density);
+        view.setVisibility(visibility);
+        view.setOnClickListener(v -> rollDice());
+        view.setOnLongClickListener(v -> {
+            cycleDiceMode();
+            return true;
+        });
+        gameRoot.addView(view, params);
+        dice = renderer;
+        dice.showFace(lastDiceValue == 0 ? 6 : lastDiceValue);
+        // A swap after onResume has already been missed by this renderer
+        if (getLifecycle().getCurrentState().isAtLeast(Lifecycle.State.RESUMED)) dice.resume();
+
+        if (active) {
+            activeDiceView = view;
+            view.setEnabled(enabled);
+            if (enabled) startIdleAnimation();
+        }
+    }
+
+    private void rollDice() {
         if (activeDiceView == null || isGameOverFlag) return;
         activeDiceView.setEnabled(false);
         stopIdleAnimation();
 
-        MusicManager.playSound(this, R.raw.dice_roll);
+        SoundEffects.play(this, R.raw.dice_roll);
 
         final int result = random.nextInt(6) + 1;
         
-        if (result == 6) {
-            consecutiveSixes++;
-            if (consecutiveSixes > 2) {
-                rollDice3D();
-                return;
-            }
-        } else {
-            consecutiveSixes = 0;
+        // A third six in a row is thrown again
+        if (!Rules.acceptRoll(state, result)) {
+            rollDice();
+            return;
         }
 
-        Node activeNode = getActiveDiceNode();
-
-        if (activeNode == null) {
+        // Still loading: the result stands without an animation
+        if (!dice.isReady()) {
+            dice.showFace(result);
             setFinalDiceResult(result);
             return;
         }
+        dice.roll(result, clock.scale(TurnTimings.DICE_ROLL_MS), () -> setFinalDiceResult(result));
+    }
 
-        Quaternion endRotation = getRotationForFace(result);
-
-        float randX = 0.5f + random.nextFloat();
-        float randY = 0.5f + random.nextFloat();
-        float randZ = random.nextFloat();
-        Vector3 randomAxis = new Vector3(randX, randY, randZ).normalized();
-
-        ValueAnimator animator = ValueAnimator.ofFloat(0f, 1f);
-        animator.setDuration(1500);
-        animator.setInterpolator(new AccelerateDecelerateInterpolator());
-        animator.addUpdateListener(animation -> {
-            float v = (float) animation.getAnimatedValue();
-            activeNode.setLocalRotation(Quaternion.axisAngle(randomAxis, v * 1800));
-            float height = 0.4f;
-            float verticalOffset = (float) (-4 * height * Math.pow(v - 0.5f, 2) + height);
-            activeNode.setLocalPosition(new Vector3(0f, verticalOffset, -3f));
-        });
-
-        animator.addListener(new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                activeNode.setLocalPosition(new Vector3(0f, 0f, -3f));
-                activeNode.setLocalRotation(endRotation);
-                setFinalDiceResult(result);
-            }
-        });
-        animator.start();
-    }
-
-    private Quaternion getRotationForFace(int face) {
-        switch (face) {
-            case 1: return Quaternion.axisAngle(new Vector3(0, 1, 0), -90);
-            case 2: return Quaternion.identity();
-            case 3: return Quaternion.axisAngle(new Vector3(1, 0, 0), -90);
-            case 4: return Quaternion.axisAngle(new Vector3(1, 0, 0), 90);
-            case 5: return Quaternion.axisAngle(new Vector3(0, 1, 0), 180);
-            case 6: return Quaternion.axisAngle(new Vector3(0, 1, 0), 90);
-            default: return Quaternion.identity();
-        }
+    // Pins the shared dice view to a player's corner of the board
+    private void moveDiceTo(int player) {
+        View view = dice.getView();
+        ConstraintLayout.LayoutParams params = (ConstraintLayout.LayoutParams) view.getLayoutParams();
+        float density = getResources().getDisplayMetrics().density;
+        int outside = Math.round(DICE_OUTSIDE_DP * density);
+        int inset = Math.round(DICE_INSET_DP * density);
+        boolean top = player == 1 || player == 2;
+        boolean start = player == 1 || player == 3;
+
+        params.topToTop = top ? R.id.boardView : ConstraintLayout.LayoutParams.UNSET;
+        params.bottomToBottom = top ? ConstraintLayout.LayoutParams.UNSET : R.id.boardView;
+        params.startToStart = start ? R.id.boardView : ConstraintLayout.LayoutParams.UNSET;
+        params.endToEnd = start ? ConstraintLayout.LayoutParams.UNSET : R.id.boardView;
+        params.topMargin = top ? outside : 0;
+        params.bottomMargin = top ? 0 : outside;
+        params.setMarginStart(start ? inset : 0);
+        params.setMarginEnd(start ? 0 : inset);
+        view.setLayoutParams(params);
     }
 
-    private Node getActiveDiceNode() {
-        int ludoPlayer = getLudoPlayer(currentPlayer);
-        switch (ludoPlayer) {
-            case 1: return diceNodeRed;
-            case 2: return diceNodeGreen;
-            case 3: return diceNodeYellow;
-            case 4: return diceNodeBlue;
-            default: return null;
-        }
+    // Debug builds log memory and dice frames once the dice is loaded and then
+    // every STATS_LOG_ROLLS rolls, to compare startup, steady state and long games
+    private void logMemory(String stage) {
+        if (!BuildConfig.DEBUG) return;
+        Log.d(TAG, String.format("Memory at %s: pss %d KB, native heap %d KB, java heap %d KB",
+                stage, Debug.getPss(), Debug.getNativeHeapAllocatedSize() / 1024,
+                (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / 1024));
+        Log.d(TAG, String.format("Dice drew %d frames in %d s", dice.getFramesRendered(),
+                (SystemClock.uptimeMillis() - createdAt) / 1000));
     }
 
     private void setFinalDiceResult(int result) {
         lastDiceValue = result;
-        handler.postDelayed(() -> {
-            int ludoPlayer = getLudoPlayer(currentPlayer);
+        if (++rollCount % STATS_LOG_ROLLS == 0) logMemory(rollCount + " rolls");
+        clock.schedule(() -> {
+            int ludoPlayer = state.getCurrentPlayer();
             if (boardView.hasMovableToken(ludoPlayer, result)) {
                 boardView.setTurn(ludoPlayer, result);
             } else {
-                handler.postDelayed(() -> nextPlayer(), 500);
+                clock.schedule(this::nextPlayer, TurnTimings.NO_MOVE_PASS_MS);
             }
-        }, 600);
+        }, TurnTimings.DICE_RESULT_MS);
     }
 
     private void hideAllDice() {
         stopIdleAnimation();
-        diceRed.setVisibility(View.GONE);
-        diceGreen.setVisibility(View.GONE);
-        diceYellow.setVisibility(View.GONE);
-        diceBlue.setVisibility(View.GONE);
+        dice.getView().setVisibility(View.GONE);
         activeDiceView = null;
     }
 
     private void nextPlayer() {
         if (isGameOverFlag) return;
         
-        consecutiveSixes = 0;
-
-        int nextP = currentPlayer;
-        do {
-            nextP++;
-            if (nextP > totalPlayers) nextP = 1;
-        } while (boardView.isPlayerFinished(getLudoPlayer(nextP)));
-        currentPlayer = nextP;
+        Rules.nextPlayer(state);
         updateDiceVisibility();
         saveGameState();
     }
 
-    private int getLudoPlayer(int logicalPlayer) {
-        if (totalPlayers == 2) {
-            return (logicalPlayer == 1) ? 3 : 2;
-        }
-        if (totalPlayers == 4) {
-            if (logicalPlayer == 1) return 1;
-            if (logicalPlayer == 2) return 2;
-            if (logicalPlayer == 3) return 4;
-            if (logicalPlayer == 4) return 3;
-        }
-        return logicalPlayer;
-    }
-
     private void updateDiceVisibility() {
         if (isGameOverFlag) {
             hideAllDice();
             return;
         }
         stopIdleAnimation();
-        diceRed.setVisibility(View.GONE);
-        diceGreen.setVisibility(View.GONE);
-        diceYellow.setVisibility(View.GONE);
-        diceBlue.setVisibility(View.GONE);
-        int ludoPlayer = getLudoPlayer(currentPlayer);
-        switch (ludoPlayer) {
-            case 1: activeDiceView = diceRed; break;
-            case 2: activeDiceView = diceGreen; break;
-            case 3: activeDiceView = diceYellow; break;
-            case 4: activeDiceView = diceBlue; break;
-        }
+        int ludoPlayer = state.getCurrentPlayer();
+        activeDiceView = ludoPlayer >= 1 && ludoPlayer <= 4 ? dice.getView() : null;
         if (activeDiceView != null) {
+            moveDiceTo(ludoPlayer);
             activeDiceView.setVisibility(View.VISIBLE);
             activeDiceView.setEnabled(true);
-            activeDiceView.setOnClickListener(v -> rollDice3D());
             startIdleAnimation();
 
             checkAndPerformAiAction();
@@ -585,37 +633,30 @@ public class GameActivity extends AppCompatActivity {
     protected void onResume() {
         super.onResume();
         MusicManager.resumeMusic(this);
-        try {
-            if (diceRed != null) diceRed.resume();
-            if (diceGreen != null) diceGreen.resume();
-            if (diceYellow != null) diceYellow.resume();
-            if (diceBlue != null) diceBlue.resume();
-        } catch (Exception e) {}
+        // The decision was cancelled in onPause, ask again
+        if (boardView != null && isComputerTurn() && boardView.isWaitingForMove()) {
+            boardView.performAiMove();
+        }
+        if (dice != null) dice.resume();
     }
 
     @Override
     protected void onPause() {
         super.onPause();
         MusicManager.pauseMusic();
+        if (boardView != null) boardView.cancelAi();
         if (!isGameOverFlag) {
             saveGameState();
         }
-        try {
-            if (diceRed != null) diceRed.pause();
-            if (diceGreen != null) diceGreen.pause();
-            if (diceYellow != null) diceYellow.pause();
-            if (diceBlue != null) diceBlue.pause();
-        } catch (Exception e) {}
+        if (dice != null) dice.pause();
     }
 
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        try {
-            if (diceRed != null) diceRed.destroy();
-            if (diceGreen != null) diceGreen.destroy();
-            if (diceYellow != null) diceYellow.destroy();
-            if (diceBlue != null) diceBlue.destroy();
-        } catch (Exception e) {}
+        // Queued rolls, moves and turn changes must not reach the destroyed views
+        clock.cancelAll();
+        if (boardView != null) boardView.releaseAi();
+        if (dice != null) dice.destroy();
     }
 }
@@ -0,0 +1,142 @@
+package com.ludo.ludofun;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.AtomicFile;
+import android.util.Log;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameSnapshot;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.SaveCodec;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// The saved game: one GameSnapshot in a file of its own. The UI thread only
+// encodes; a single background thread writes through AtomicFile, in order, so
+// a crash mid-write keeps the previous save. The newest snapshot is also kept
+// in memory, which answers loads while a write may still be queued.
+public final class GameSaveFile {
+
+    public static final int NO_SAVE = -1;
+
+    private static final String TAG = "GameSaveFile";
+    private static final String FILE_NAME = "game.sav";
+
+    // The JSON-text save kept in LudoPrefs by earlier versions, read once to migrate
+    private static final String[] LEGACY_TOKEN_KEYS = {"redTokens", "greenTokens", "yellowTokens", "blueTokens"};
+    private static final String[] LEGACY_KEYS = {"hasSavedGame", "totalPlayers", "isVsComputer", "currentPlayer",
+            "redTokens", "greenTokens", "yellowTokens", "blueTokens", "winners"};
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static byte[] latest; // null when there is no saved game
+    private static boolean latestKnown;
+
+    private GameSaveFile() {}
+
+    public static synchronized void save(Context context, GameState state, int flags) {
+        byte[] data = new byte[GameSnapshot.SIZE];
+        GameSnapshot.write(state, flags, data);
+        latest = data;
+        latestKnown = true;
+        AtomicFile file = file(context);
+        writer.execute(() -> write(file, data));
+    }
+
+    public static synchronized void clear(Context context) {
+        latest = null;
+        latestKnown = true;
+        AtomicFile file = file(context);
+        writer.execute(file::delete);
+    }
+
+    public static synchronized boolean exists(Context context) {
+        if (!latestKnown) readLatest(context);
+        return latest != null;
+    }
+
+    // Loads the saved game into state and returns its GameSnapshot flags, or NO_SAVE
+    public static synchronized int load(Context context, GameState state) {
+        if (!latestKnown) readLatest(context);
+        if (latest == null) return NO_SAVE;
+        try {
+            return GameSnapshot.read(latest, state);
+        } catch (IllegalArgumentException e) {
+            Log.w(TAG, "Saved game unreadable", e);
+            return NO_SAVE;
+        }
+    }
+
+    // First access in this process; the file is a few dozen bytes
+    private static void readLatest(Context context) {
+        latestKnown = true;
+        try {
+            latest = file(context).readFully();
+        } catch (FileNotFoundException e) {
+            latest = migrate(context);
+        } catch (IOException e) {
+            Log.w(TAG, "Saved game unreadable", e);
+            latest = null;
+        }
+    }
+
+    // Converts a game saved as JSON text in LudoPrefs. The old keys are removed
+    // only once the snapshot is on disk.
+    private static byte[] migrate(Context context) {
+        SharedPreferences prefs = context.getSharedPreferences("LudoPrefs", Context.MODE_PRIVATE);
+        if (!prefs.getBoolean("hasSavedGame", false)) return null;
+
+        byte[] data;
+        try {
+            GameState state = new GameState(prefs.getInt("totalPlayers", 4));
+            for (int p = 1; p <= Board.PLAYERS; p++) {
+                SaveCodec.decodeTokens(prefs.getString(LEGACY_TOKEN_KEYS[p - 1], SaveCodec.EMPTY_TOKENS), state, p);
+            }
+            SaveCodec.decodeWinners(prefs.getString("winners", SaveCodec.NO_WINNERS), state);
+            state.setCurrentSeat(prefs.getInt("currentPlayer", 1));
+            data = new byte[GameSnapshot.SIZE];
+            GameSnapshot.write(state, prefs.getBoolean("isVsComputer", false) ? GameSnapshot.FLAG_VS_COMPUTER : 0, data);
+        } catch (IllegalArgumentException e) {
+            Log.w(TAG, "Could not migrate saved game", e);
+            data = null;
+        }
+
+        byte[] migrated = data;
+        AtomicFile file = file(context);
+        writer.execute(() -> {
+            if (migrated != null && !write(file, migrated)) return;
+            SharedPreferences.Editor editor = prefs.edit();
+            for (String key : LEGACY_KEYS) editor.remove(key);
+            editor.apply();
+        });
+        return data;
+    }
+
+    private static boolean write(AtomicFile file, byte[] data) {
+        FileOutputStream out = null;
+        try {
+            out = file.startWrite();
+            out.write(data);
+            file.finishWrite(out);
+            return true;
+        } catch (IOException e) {
+            if (out != null) file.failWrite(out);
+            Log.w(TAG, "Could not save game", e);
+            return false;
+        }
+    }
+
+    private static AtomicFile file(Context context) {
+        return new AtomicFile(new File(context.getFilesDir(), FILE_NAME));
+    }
+}
@@ -0,0 +1,46 @@
+package com.ludo.ludofun;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import com.ludo.ludofun.engine.GameClock;
+import com.ludo.ludofun.engine.GameSpeed;
+
+// Game clock on the main thread's message queue
+public final class HandlerGameClock implements GameClock {
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private GameSpeed speed = GameSpeed.NORMAL;
+
+    @Override
+    public long now() {
+        return SystemClock.uptimeMillis();
+    }
+
+    @Override
+    public void schedule(Runnable task, long delayMillis) {
+        long delay = scale(delayMillis);
+        if (delay <= 0) {
+            handler.post(task);
+        } else {
+            handler.postDelayed(task, delay);
+        }
+    }
+
+    @Override
+    public void cancel(Runnable task) {
+        handler.removeCallbacks(task);
+    }
+
+    @Override
+    public void cancelAll() {
+        handler.removeCallbacksAndMessages(null);
+    }
+
+    @Override
+    public GameSpeed getSpeed() { return speed; }
+
+    @Override
+    public void setSpeed(GameSpeed speed) { this.speed = speed; }
+}
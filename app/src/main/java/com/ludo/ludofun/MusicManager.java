@@ -94,14 +94,4 @@ public class MusicManager {
         loadSettings(context);
         return isSoundEnabled;
     }
-
-    public static void playSound(Context context, int resId) {
-        loadSettings(context);
-        if (!isSoundEnabled) return;
-        MediaPlayer mp = MediaPlayer.create(context, resId);
-        if (mp != null) {
-            mp.setOnCompletionListener(MediaPlayer::release);
-            mp.start();
-        }
-    }
 }
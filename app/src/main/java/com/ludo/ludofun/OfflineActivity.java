@@ -5,7 +5,6 @@ import android.animation.AnimatorListenerAdapter;
 import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.graphics.LinearGradient;
 import android.graphics.Shader;
 import android.os.Bundle;
@@ -44,7 +43,7 @@ public class OfflineActivity extends AppCompatActivity {
 
         setupButtonClick(btnNewGame, () -> {
             // Reset saved game and start new selection
-            getSharedPreferences("LudoPrefs", MODE_PRIVATE).edit().putBoolean("hasSavedGame", false).apply();
+            GameSaveFile.clear(this);
             startActivity(new Intent(this, PlayerSelectionActivity.class));
         });
 
@@ -66,9 +65,7 @@ public class OfflineActivity extends AppCompatActivity {
         MusicManager.resumeMusic();
         
         // Check if there's a game to resume whenever we come back to this screen
-        SharedPreferences prefs = getSharedPreferences("LudoPrefs", MODE_PRIVATE);
-        boolean hasSavedGame = prefs.getBoolean("hasSavedGame", false);
-        if (hasSavedGame) {
+        if (GameSaveFile.exists(this)) {
             btnResume.setVisibility(View.VISIBLE);
         } else {
             btnResume.setVisibility(View.GONE);
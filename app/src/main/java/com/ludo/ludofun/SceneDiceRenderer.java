@@ -0,0 +1,253 @@
+package com.ludo.ludofun;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.view.Choreographer;
+import android.view.SurfaceHolder;
+import android.view.View;
+import android.view.animation.LinearInterpolator;
+
+import com.google.ar.sceneform.Node;
+import com.google.ar.sceneform.SceneView;
+import com.google.ar.sceneform.math.Quaternion;
+import com.google.ar.sceneform.math.Vector3;
+
+import java.util.Random;
+
+// The 3D dice: a copy of the shared DiceModel in its own SceneView, rolled
+// from the DiceKeyframes tables. Frame times are watched during each roll so
+// the game can drop to the 2D dice on devices that cannot keep up.
+//
+// The scene only renders while a roll is animating and for a few frames after
+// the die or its surface changes; the rest of the time the SceneView is paused
+// and its surface keeps showing the last frame.
+public final class SceneDiceRenderer implements DiceRenderer, Choreographer.FrameCallback,
+        SurfaceHolder.Callback {
+
+    private static final float DEPTH = -3f;
+    private static final float SCALE = 1.6f;
+    private static final TimeInterpolator LINEAR = new LinearInterpolator();
+
+    // A frame is janky when it spans more than two 60 Hz vsyncs. A roll is janky
+    // when a quarter of its frames are, and this many janky rolls in a row give up.
+    private static final long JANK_FRAME_NANOS = 33_333_333L;
+    private static final float JANK_ROLL_FRACTION = 0.25f;
+    private static final int JANK_ROLLS = 3;
+
+    // Frames rendered after a change, so the new pose reaches the surface
+    private static final int SETTLE_FRAMES = 3;
+
+    private final SceneView view;
+    private final Listener listener;
+    private final Random random = new Random();
+    private Node node;
+    private ValueAnimator animator;
+    private boolean destroyed;
+
+    // Rendering on demand: the activity is resumed, the SceneView is running,
+    // and how many more frames it runs for when no roll is animating
+    private boolean resumed;
+    private boolean rendering;
+    private int settleFrames;
+    private long framesRendered;
+
+    // Reused by every frame: current face, keyframe sample, and what it is copied into
+    private int face = 6;
+    private final float[] frame = new float[5];
+    private final Quaternion rotation = new Quaternion();
+    private final Vector3 position = new Vector3();
+
+    // Frame timing of the roll in progress
+    private long lastFrameNanos;
+    private int frames;
+    private int jankyFrames;
+    private int jankyRolls;
+
+    public SceneDiceRenderer(Context context, Listener listener) {
+        this.view = new SceneView(context);
+        this.listener = listener;
+        view.getHolder().addCallback(this);
+        // Posted, so the listener never runs before the caller has this renderer
+        DiceModel.newInstance(context)
+                .thenAccept(renderable -> view.post(() -> {
+                    if (destroyed) return;
+                    Node created = new Node();
+                    created.setRenderable(renderable);
+                    created.setParent(view.getScene());
+                    created.setLocalScale(new Vector3(SCALE, SCALE, SCALE));
+                    node = created;
+                    showFace(face);
+                    listener.onReady();
+                }))
+                .exceptionally(throwable -> {
+                    view.post(() -> {
+                        if (!destroyed) listener.onLoadFailed();
+                    });
+                    return null;
+                });
+    }
+
+    @Override
+    public View getView() {
+        return view;
+    }
+
+    @Override
+    public boolean isReady() {
+        return node != null;
+    }
+
+    @Override
+    public void showFace(int face) {
+        cancelRoll();
+        this.face = face;
+        if (node == null) return;
+        DiceKeyframes.face(face, frame);
+        rotation.set(frame[0], frame[1], frame[2], frame[3]);
+        position.set(0f, 0f, DEPTH);
+        node.setLocalRotation(rotation);
+        node.setLocalPosition(position);
+        renderFrames(SETTLE_FRAMES);
+    }
+
+    @Override
+    public void roll(int result, long durationMs, Runnable onLanded) {
+        cancelRoll();
+        if (node == null) {
+            face = result;
+            onLanded.run();
+            return;
+        }
+
+        int fromFace = face;
+        int variant = random.nextInt(DiceKeyframes.VARIANTS);
+        face = result;
+        animator = ValueAnimator.ofFloat(0f, 1f);
+        animator.setDuration(durationMs);
+        animator.setInterpolator(LINEAR);
+        animator.addUpdateListener(animation -> {
+            DiceKeyframes.sample(fromFace, result, variant, animation.getAnimatedFraction(), frame);
+            rotation.set(frame[0], frame[1], frame[2], frame[3]);
+            position.set(0f, frame[4], DEPTH);
+            node.setLocalRotation(rotation);
+            node.setLocalPosition(position);
+        });
+        animator.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                animator = null;
+                boolean gaveUp = endJankWatch();
+                lastFrameNanos = 0;
+                showFace(result);
+                onLanded.run();
+                if (gaveUp) listener.onJank();
+            }
+        });
+
+        frames = 0;
+        jankyFrames = 0;
+        lastFrameNanos = 0;
+        renderFrames(SETTLE_FRAMES);
+        animator.start();
+    }
+
+    // Keeps the scene rendering for at least this many more frames
+    private void renderFrames(int count) {
+        settleFrames = Math.max(settleFrames, count);
+        if (rendering || !resumed || destroyed) return;
+        rendering = true;
+        try {
+            view.resume();
+        } catch (Exception e) {}
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    private void stopRendering() {
+        if (!rendering) return;
+        rendering = false;
+        settleFrames = 0;
+        Choreographer.getInstance().removeFrameCallback(this);
+        view.pause();
+    }
+
+    // Runs while the scene renders: counts frames that overran during a roll,
+    // and pauses the scene once the roll is over and the last pose has been drawn
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        framesRendered++;
+        if (animator != null) {
+            if (lastFrameNanos != 0) {
+                frames++;
+                if (frameTimeNanos - lastFrameNanos > JANK_FRAME_NANOS) jankyFrames++;
+            }
+            lastFrameNanos = frameTimeNanos;
+        } else if (--settleFrames <= 0) {
+            stopRendering();
+            return;
+        }
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    // Returns true once enough rolls in a row have been janky
+    private boolean endJankWatch() {
+        if (frames == 0) return false;
+        if (jankyFrames >= frames * JANK_ROLL_FRACTION) {
+            jankyRolls++;
+        } else {
+            jankyRolls = 0;
+        }
+        return jankyRolls >= JANK_ROLLS;
+    }
+
+    private void cancelRoll() {
+        if (animator == null) return;
+        ValueAnimator running = animator;
+        animator = null;
+        running.removeAllListeners();
+        running.cancel();
+    }
+
+    // A new or resized surface starts out empty, so draw the current pose into it
+    @Override
+    public void surfaceCreated(SurfaceHolder holder) {
+        renderFrames(SETTLE_FRAMES);
+    }
+
+    @Override
+    public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
+        renderFrames(SETTLE_FRAMES);
+    }
+
+    @Override
+    public void surfaceDestroyed(SurfaceHolder holder) {}
+
+    @Override
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+
+    @Override
+    public void resume() {
+        resumed = true;
+        renderFrames(SETTLE_FRAMES);
+    }
+
+    @Override
+    public void pause() {
+        resumed = false;
+        stopRendering();
+    }
+
+    @Override
+    public void destroy() {
+        destroyed = true;
+        cancelRoll();
+        stopRendering();
+        try {
+            view.destroy();
+        } catch (Exception e) {}
+    }
+}
@@ -0,0 +1,109 @@
+package com.ludo.ludofun;
+
+import android.content.Context;
+import android.media.AudioAttributes;
+import android.media.SoundPool;
+import android.os.SystemClock;
+import android.util.Log;
+
+// Short sound effects through one SoundPool, decoded once per process and
+// played by resource id. SplashActivity preloads them. At most MAX_VOICES play
+// at once, and a trigger for an effect that started less than COALESCE_MS ago
+// is dropped, so fast games do not stack the same click many times over.
+public final class SoundEffects {
+
+    private static final String TAG = "SoundEffects";
+    private static final int MAX_VOICES = 4;
+    private static final long COALESCE_MS = 45;
+    private static final int STATS_EVERY = 200;
+
+    // Every effect the game plays, and which survives when voices run out (higher wins)
+    private static final int[] EFFECTS = {R.raw.dice_roll, R.raw.token_move, R.raw.kill_sound, R.raw.win_sound_end};
+    private static final int[] PRIORITIES = {1, 0, 2, 2};
+
+    private static SoundPool pool;
+    private static final int[] samples = new int[EFFECTS.length];
+    private static final boolean[] loaded = new boolean[EFFECTS.length];
+    private static final long[] lastStarted = new long[EFFECTS.length];
+    private static long loadStart;
+    private static int loadedCount;
+
+    // Trigger timing, logged by debug builds
+    private static int triggers;
+    private static int coalesced;
+    private static long playNanos;
+    private static long maxPlayNanos;
+
+    private SoundEffects() {}
+
+    // Starts decoding every effect if that has not happened yet. Call on the main thread.
+    public static void preload(Context context) {
+        if (pool != null) return;
+        AudioAttributes attributes = new AudioAttributes.Builder()
+                .setUsage(AudioAttributes.USAGE_GAME)
+                .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
+                .build();
+        pool = new SoundPool.Builder()
+                .setMaxStreams(MAX_VOICES)
+                .setAudioAttributes(attributes)
+                .build();
+        pool.setOnLoadCompleteListener((soundPool, sampleId, status) -> onLoaded(sampleId, status));
+        loadStart = SystemClock.uptimeMillis();
+        Context app = context.getApplicationContext();
+        for (int i = 0; i < EFFECTS.length; i++) {
+            samples[i] = pool.load(app, EFFECTS[i], 1);
+        }
+    }
+
+    private static void onLoaded(int sampleId, int status) {
+        for (int i = 0; i < samples.length; i++) {
+            if (samples[i] != sampleId) continue;
+            if (status != 0) {
+                Log.w(TAG, "Could not load sound effect " + i + ", status " + status);
+                return;
+            }
+            loaded[i] = true;
+            if (++loadedCount == EFFECTS.length && BuildConfig.DEBUG) {
+                Log.d(TAG, "All effects loaded in " + (SystemClock.uptimeMillis() - loadStart) + " ms");
+            }
+            return;
+        }
+    }
+
+    // Plays one of the raw resources in EFFECTS; anything still loading is skipped
+    public static void play(Context context, int resId) {
+        if (!MusicManager.isSoundEnabled(context)) return;
+        preload(context);
+        int effect = indexOf(resId);
+        if (effect < 0 || !loaded[effect]) return;
+
+        long now = SystemClock.uptimeMillis();
+        if (now - lastStarted[effect] < COALESCE_MS) {
+            coalesced++;
+            return;
+        }
+        lastStarted[effect] = now;
+
+        long start = System.nanoTime();
+        pool.play(samples[effect], 1f, 1f, PRIORITIES[effect], 0, 1f);
+        if (BuildConfig.DEBUG) recordTrigger(System.nanoTime() - start);
+    }
+
+    private static int indexOf(int resId) {
+        for (int i = 0; i < EFFECTS.length; i++) {
+            if (EFFECTS[i] == resId) return i;
+        }
+        return -1;
+    }
+
+    // Time from the trigger until SoundPool has queued the sample; the output
+    // buffer adds a device-dependent delay on top that this cannot see
+    private static void recordTrigger(long nanos) {
+        triggers++;
+        playNanos += nanos;
+        maxPlayNanos = Math.max(maxPlayNanos, nanos);
+        if (triggers % STATS_EVERY != 0) return;
+        Log.d(TAG, String.format("%d triggers, %d coalesced: mean %.3f ms, max %.3f ms to queue",
+                triggers, coalesced, playNanos / 1e6 / triggers, maxPlayNanos / 1e6));
+    }
+}
@@ -22,6 +22,10 @@ public class SplashActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_splash);
 
+        // Parse and upload the dice model and decode the sound effects while the splash is showing
+        DiceModel.preload(this);
+        SoundEffects.preload(this);
+
         ImageView ivLogo = findViewById(R.id.ivLogo);
         TextView tvAppName = findViewById(R.id.tvAppName);
         ProgressBar progressBar = findViewById(R.id.progressBar);
@@ -0,0 +1,124 @@
+package com.ludo.ludofun;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+// Token and safe-star sprites pre-rendered for one cell size, so a token is a
+// single drawBitmap. Tokens live in one bitmap laid out as a grid: one row per
+// colour and stack size, one column per pop/hint scale. Every sprite sits at the
+// same spot in its grid slot, so drawing copies the slot without scaling.
+public final class SpriteAtlas {
+
+    // Tokens shrink when they share a cell: alone, up to four, five or more
+    private static final float[] STACK_SCALES = {1f, 0.75f, 0.65f};
+    // The hint pulses between 1.0 and 1.25, the moving token pops to 1.3
+    private static final float EFFECT_STEP = 0.05f;
+    private static final int EFFECT_LEVELS = 7;
+    private static final float SHADOW_OFFSET = 4;
+    private static final int PADDING = 2;
+
+    private static final int TOKEN_SHADOW = 0x44000000;
+    private static final int TOKEN_INNER_RING = 0x33000000;
+
+    private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Rect src = new Rect();
+    private final Rect dst = new Rect();
+
+    private Bitmap tokens;
+    private Bitmap star;
+    private int slotSize;
+    private int centre; // token centre inside a slot
+
+    public void build(int cell, Bitmap starSource, int[] playerColors) {
+        release();
+        if (starSource != null) {
+            int starSize = (int) (cell * 0.8f);
+            star = Bitmap.createScaledBitmap(starSource, starSize, starSize, true);
+        }
+
+        float maxRadius = radius(cell, 1f, 1f + EFFECT_STEP * (EFFECT_LEVELS - 1));
+        centre = (int) Math.ceil(maxRadius) + PADDING;
+        slotSize = centre * 2 + (int) SHADOW_OFFSET;
+        int players = playerColors.length - 1;
+        tokens = Bitmap.createBitmap(slotSize * EFFECT_LEVELS, slotSize * players * STACK_SCALES.length,
+                Bitmap.Config.ARGB_8888);
+
+        Canvas canvas = new Canvas(tokens);
+        for (int player = 1; player <= players; player++) {
+            for (int stack = 0; stack < STACK_SCALES.length; stack++) {
+                float cy = row(player, stack) * slotSize + centre;
+                for (int effect = 0; effect < EFFECT_LEVELS; effect++) {
+                    float cx = effect * slotSize + centre;
+                    float size = cell * STACK_SCALES[stack] * (1f + EFFECT_STEP * effect);
+                    drawToken(canvas, cx, cy, size, playerColors[player]);
+                }
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return tokens != null;
+    }
+
+    public void release() {
+        if (tokens != null) {
+            tokens.recycle();
+            tokens = null;
+        }
+        if (star != null) {
+            star.recycle();
+            star = null;
+        }
+    }
+
+    // Scaled safe-spot star, or null if the drawable was missing
+    public Bitmap getStar() {
+        return star;
+    }
+
+    // Sprite index for a stack of count tokens
+    public static int stackIndex(int count) {
+        return count <= 1 ? 0 : count <= 4 ? 1 : 2;
+    }
+
+    // scale is the pop/hint scale, snapped to the nearest pre-rendered step
+    public void drawToken(Canvas canvas, int player, int stack, float scale, float x, float y) {
+        int effect = Math.round((scale - 1f) / EFFECT_STEP);
+        effect = Math.max(0, Math.min(EFFECT_LEVELS - 1, effect));
+        int top = row(player, stack) * slotSize;
+        src.set(effect * slotSize, top, (effect + 1) * slotSize, top + slotSize);
+        int left = Math.round(x) - centre;
+        int dstTop = Math.round(y) - centre;
+        dst.set(left, dstTop, left + slotSize, dstTop + slotSize);
+        canvas.drawBitmap(tokens, src, dst, null);
+    }
+
+    private static int row(int player, int stack) {
+        return (player - 1) * STACK_SCALES.length + stack;
+    }
+
+    private static float radius(int cell, float stackScale, float effectScale) {
+        return cell * stackScale * effectScale / 2.2f;
+    }
+
+    // Shadow, white ring, body and decorative inner ring, as the board has always drawn them
+    private void drawToken(Canvas canvas, float x, float y, float size, int color) {
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(TOKEN_SHADOW);
+        canvas.drawCircle(x + SHADOW_OFFSET, y + SHADOW_OFFSET, size / 2.2f, paint);
+
+        paint.setColor(Color.WHITE);
+        canvas.drawCircle(x, y, size / 2.2f, paint);
+
+        paint.setColor(color);
+        canvas.drawCircle(x, y, size / 2.6f, paint);
+
+        paint.setColor(TOKEN_INNER_RING);
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(2);
+        canvas.drawCircle(x, y, size / 4f, paint);
+    }
+}
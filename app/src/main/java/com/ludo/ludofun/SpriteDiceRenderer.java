@@ -0,0 +1,205 @@
+package com.ludo.ludofun;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.view.View;
+import android.view.animation.LinearInterpolator;
+
+import java.util.Random;
+
+// The 2D dice: the six faces are drawn once into a sprite sheet sized for the
+// view, and a roll tumbles through random faces with a spin and a bounce before
+// landing. Used on low-end devices, when the 3D dice janks or cannot load, and
+// when the player picks it.
+public final class SpriteDiceRenderer extends View implements DiceRenderer {
+
+    private static final float FACE_FRACTION = 0.7f; // face size relative to the view
+    private static final float TUMBLE_DEGREES = 720f;
+    private static final float BOUNCE_FRACTION = 0.18f; // of the view height
+    private static final int TUMBLE_FACES = 8; // faces shown during a roll, the result last
+    private static final TimeInterpolator LINEAR = new LinearInterpolator();
+
+    // Pip centres per face as x, y pairs, in fractions of the face
+    private static final float[][] PIPS = {
+            {},
+            {0.5f, 0.5f},
+            {0.28f, 0.28f, 0.72f, 0.72f},
+            {0.28f, 0.28f, 0.5f, 0.5f, 0.72f, 0.72f},
+            {0.28f, 0.28f, 0.72f, 0.28f, 0.28f, 0.72f, 0.72f, 0.72f},
+            {0.28f, 0.28f, 0.72f, 0.28f, 0.5f, 0.5f, 0.28f, 0.72f, 0.72f, 0.72f},
+            {0.28f, 0.28f, 0.72f, 0.28f, 0.28f, 0.5f, 0.72f, 0.5f, 0.28f, 0.72f, 0.72f, 0.72f},
+    };
+
+    private final Paint spritePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final Rect src = new Rect();
+    private final RectF dst = new RectF();
+    private final Random random = new Random();
+    private final int[] tumble = new int[TUMBLE_FACES];
+
+    private Bitmap sheet;
+    private int faceSize;
+    private int face = 6;
+    private float fraction = 1f; // of the roll in progress; 1 at rest
+    private ValueAnimator animator;
+    private long framesRendered;
+
+    public SpriteDiceRenderer(Context context) {
+        super(context);
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        buildSheet(Math.round(Math.min(w, h) * FACE_FRACTION));
+    }
+
+    // Six faces side by side, face n at column n - 1
+    private void buildSheet(int size) {
+        if (sheet != null) sheet.recycle();
+        sheet = null;
+        faceSize = size;
+        if (size <= 0) return;
+
+        sheet = Bitmap.createBitmap(size * 6, size, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(sheet);
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        float inset = size * 0.04f;
+        float radius = size * 0.18f;
+        float pip = size * 0.09f;
+        for (int f = 1; f <= 6; f++) {
+            float left = (f - 1) * size;
+            paint.setStyle(Paint.Style.FILL);
+            paint.setColor(Color.WHITE);
+            canvas.drawRoundRect(left + inset, inset, left + size - inset, size - inset, radius, radius, paint);
+            paint.setStyle(Paint.Style.STROKE);
+            paint.setStrokeWidth(size * 0.03f);
+            paint.setColor(Color.GRAY);
+            canvas.drawRoundRect(left + inset, inset, left + size - inset, size - inset, radius, radius, paint);
+            paint.setStyle(Paint.Style.FILL);
+            paint.setColor(Color.BLACK);
+            float[] pips = PIPS[f];
+            for (int i = 0; i < pips.length; i += 2) {
+                canvas.drawCircle(left + pips[i] * size, pips[i + 1] * size, pip, paint);
+            }
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (sheet == null) return;
+        framesRendered++;
+
+        float eased = ease(fraction);
+        int shown = fraction >= 1f ? face : tumble[Math.min((int) (eased * TUMBLE_FACES), TUMBLE_FACES - 1)];
+        float d = eased - 0.5f;
+        float lift = fraction >= 1f ? 0f : (1 - 4 * d * d) * BOUNCE_FRACTION * getHeight();
+        float cx = getWidth() / 2f;
+        float cy = getHeight() / 2f - lift;
+        float half = faceSize / 2f;
+
+        src.set((shown - 1) * faceSize, 0, shown * faceSize, faceSize);
+        dst.set(cx - half, cy - half, cx + half, cy + half);
+        canvas.save();
+        canvas.rotate((1 - eased) * TUMBLE_DEGREES, cx, cy);
+        canvas.drawBitmap(sheet, src, dst, spritePaint);
+        canvas.restore();
+    }
+
+    // Same curve as AccelerateDecelerateInterpolator
+    private static float ease(float t) {
+        return (float) (Math.cos((t + 1) * Math.PI) / 2 + 0.5);
+    }
+
+    @Override
+    public View getView() {
+        return this;
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public void showFace(int face) {
+        cancelRoll();
+        this.face = face;
+        fraction = 1f;
+        invalidate();
+    }
+
+    @Override
+    public void roll(int result, long durationMs, Runnable onLanded) {
+        cancelRoll();
+        // Random faces, never the same twice running, ending on the result
+        int previous = face;
+        for (int i = 0; i < TUMBLE_FACES - 1; i++) {
+            int next;
+            do {
+                next = random.nextInt(6) + 1;
+            } while (next == previous);
+            tumble[i] = next;
+            previous = next;
+        }
+        tumble[TUMBLE_FACES - 1] = result;
+        face = result;
+
+        fraction = 0f;
+        animator = ValueAnimator.ofFloat(0f, 1f);
+        animator.setDuration(durationMs);
+        animator.setInterpolator(LINEAR);
+        animator.addUpdateListener(animation -> {
+            fraction = animation.getAnimatedFraction();
+            invalidate();
+        });
+        animator.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                animator = null;
+                fraction = 1f;
+                invalidate();
+                onLanded.run();
+            }
+        });
+        animator.start();
+    }
+
+    private void cancelRoll() {
+        if (animator == null) return;
+        ValueAnimator running = animator;
+        animator = null;
+        running.removeAllListeners();
+        running.cancel();
+    }
+
+    @Override
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+
+    // Nothing renders between rolls, so there is nothing to pause
+    @Override
+    public void resume() {}
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void destroy() {
+        cancelRoll();
+        if (sheet != null) {
+            sheet.recycle();
+            sheet = null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ludo.ludofun;
+
+import com.ludo.ludofun.engine.Board;
+
+// Where every token is drawn from and how it shares its cell, in preallocated
+// arrays indexed by (player - 1) * TOKENS + token. Tokens at home never stack.
+public final class TokenStacks {
+
+    private final int[] steps = new int[Board.PLAYERS * Board.TOKENS];
+    private final int[] cell = new int[Board.PLAYERS * Board.TOKENS]; // -1 at home or inactive
+    private final int[] slot = new int[Board.PLAYERS * Board.TOKENS];
+    private final int[] size = new int[Board.CELLS];
+
+    // Call before placing the tokens of a new frame
+    public void clear() {
+        for (int i = 0; i < cell.length; i++) {
+            if (cell[i] >= 0) size[cell[i]] = 0;
+            cell[i] = -1;
+        }
+    }
+
+    // Tokens stack in the order they are placed
+    public void place(int player, int token, int tokenSteps, boolean active) {
+        int i = (player - 1) * Board.TOKENS + token;
+        steps[i] = tokenSteps;
+        if (!active || tokenSteps == Board.HOME) {
+            cell[i] = -1;
+            slot[i] = 0;
+        } else {
+            int c = Board.cellOf(player, tokenSteps);
+            cell[i] = c;
+            slot[i] = size[c]++;
+        }
+    }
+
+    public int steps(int player, int token) {
+        return steps[(player - 1) * Board.TOKENS + token];
+    }
+
+    // This token's place among the tokens on its cell
+    public int slot(int player, int token) {
+        return slot[(player - 1) * Board.TOKENS + token];
+    }
+
+    // Number of tokens on this token's cell, itself included
+    public int count(int player, int token) {
+        int c = cell[(player - 1) * Board.TOKENS + token];
+        return c < 0 ? 1 : size[c];
+    }
+}
@@ -0,0 +1,41 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    jmhImplementation(project(":engine"))
+}
+
+val resultsCsv = layout.buildDirectory.file("results/jmh/results.csv")
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    fork.set(1)
+    resultFormat.set("CSV")
+    resultsFile.set(resultsCsv)
+}
+
+// Fails when a benchmark in the last :benchmark:jmh run is slower than the
+// stored baseline. -Pthreshold=N sets the allowed slowdown in percent.
+tasks.register<JavaExec>("jmhCompare") {
+    group = "verification"
+    description = "Compares the last JMH run with baseline/results.csv."
+    mustRunAfter("jmh")
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.ludo.ludofun.benchmark.CompareBaseline")
+    args(
+        file("baseline/results.csv").path,
+        resultsCsv.get().asFile.path,
+        (findProperty("threshold") ?: "10").toString()
+    )
+}
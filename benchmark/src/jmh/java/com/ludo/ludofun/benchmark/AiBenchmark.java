@@ -0,0 +1,74 @@
+package com.ludo.ludofun.benchmark;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+import com.ludo.ludofun.engine.ai.ExpectiminimaxAi;
+import com.ludo.ludofun.engine.ai.HeuristicAi;
+import com.ludo.ludofun.engine.ai.TranspositionTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Move selection over 16 positions. The search runs to a fixed depth with a
+// budget it never reaches, so it measures work rather than wall-clock time.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiBenchmark {
+
+    private static final int COUNT = 16;
+    private static final int SEARCH_DEPTH = 2;
+
+    private GameState[] positions;
+    private final int[] dice = new int[COUNT];
+    private final int[][] movable = new int[COUNT][Board.TOKENS];
+    private final int[] counts = new int[COUNT];
+
+    private final HeuristicAi heuristic = new HeuristicAi();
+    private final TranspositionTable table = new TranspositionTable(ExpectiminimaxAi.DEFAULT_TABLE_BITS);
+    private final ExpectiminimaxAi search = new ExpectiminimaxAi(60_000, SEARCH_DEPTH, table);
+
+    @Setup
+    public void setup() {
+        positions = Positions.midGame(COUNT, 80, 3, dice);
+        for (int i = 0; i < COUNT; i++) {
+            GameState state = positions[i];
+            counts[i] = Rules.movableTokens(state, state.getCurrentPlayer(), dice[i], movable[i]);
+        }
+    }
+
+    // Results cached by the previous operation would make the search look free
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        table.clear();
+    }
+
+    @Benchmark
+    public int heuristic() {
+        int total = 0;
+        for (int i = 0; i < COUNT; i++) {
+            GameState state = positions[i];
+            total += heuristic.chooseMove(state, state.getCurrentPlayer(), dice[i], movable[i], counts[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int expectiminimax() {
+        int total = 0;
+        for (int i = 0; i < COUNT; i++) {
+            GameState state = positions[i];
+            total += search.chooseMove(state, state.getCurrentPlayer(), dice[i], movable[i], counts[i]);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ludo.ludofun.benchmark;
+
+import com.ludo.ludofun.engine.Dice;
+import com.ludo.ludofun.engine.GameRunner;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.ai.AiPlayer;
+import com.ludo.ludofun.engine.ai.HeuristicAi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// One full 4-player game between heuristic players. The dice sequence repeats
+// every 256 games so all runs play the same games.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameBenchmark {
+
+    private static final int GAMES = 256;
+
+    private final GameState state = new GameState(4);
+    private final GameRunner runner = new GameRunner(state);
+    private final AiPlayer[] seats = new AiPlayer[4];
+    private SplittableRandom random;
+    private final Dice dice = () -> random.nextInt(6) + 1;
+    private int game;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < seats.length; i++) seats[i] = new HeuristicAi();
+    }
+
+    @Benchmark
+    public int fullGame() {
+        random = new SplittableRandom(game);
+        game = (game + 1) % GAMES;
+        state.reset(4);
+        state.setCurrentSeat(random.nextInt(4) + 1);
+        return runner.play(seats, dice);
+    }
+}
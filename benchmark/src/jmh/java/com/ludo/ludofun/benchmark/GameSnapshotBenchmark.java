@@ -0,0 +1,45 @@
+package com.ludo.ludofun.benchmark;
+
+import com.ludo.ludofun.engine.GameSnapshot;
+import com.ludo.ludofun.engine.GameState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Saving and restoring a game the way GameSaveFile does: one binary snapshot,
+// encoded on the caller's thread before the file write is queued
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameSnapshotBenchmark {
+
+    private GameState position;
+    private final GameState restored = new GameState(4);
+    private final byte[] saved = new byte[GameSnapshot.SIZE];
+
+    @Setup
+    public void setup() {
+        position = Positions.midGame(1, 80, 4, new int[1])[0];
+        position.addWinner(2);
+        save();
+    }
+
+    @Benchmark
+    public byte[] save() {
+        GameSnapshot.write(position, GameSnapshot.FLAG_VS_COMPUTER, saved);
+        return saved;
+    }
+
+    @Benchmark
+    public GameState restore() {
+        GameSnapshot.read(saved, restored);
+        return restored;
+    }
+}
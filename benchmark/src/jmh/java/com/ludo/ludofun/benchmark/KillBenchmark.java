@@ -0,0 +1,72 @@
+package com.ludo.ludofun.benchmark;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Kill resolution on 64 positions that each have a capture available. Every
+// kill changes the state, so each one runs on a fresh copy; copyOnly measures
+// that overhead on its own.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KillBenchmark {
+
+    private static final int COUNT = 64;
+
+    private final GameState[] positions = new GameState[COUNT];
+    private final int[] players = new int[COUNT];
+    private final int[] cells = new int[COUNT];
+    private final GameState scratch = new GameState(4);
+
+    @Setup
+    public void setup() {
+        GameState[] states = Positions.midGame(COUNT, 80, 2, new int[COUNT]);
+        SplittableRandom random = new SplittableRandom(2);
+        for (int i = 0; i < COUNT; i++) {
+            GameState state = states[i];
+            int player = state.getCurrentPlayer();
+            // Put an opponent token on an unsafe main path cell
+            int victim = player % Board.PLAYERS + 1;
+            int steps;
+            do {
+                steps = random.nextInt(Board.LAST_MAIN_STEP + 1);
+            } while (Board.isSafe(Board.cellOf(victim, steps)));
+            state.setSteps(victim, random.nextInt(Board.TOKENS), steps);
+            positions[i] = state;
+            players[i] = player;
+            cells[i] = Board.cellOf(victim, steps);
+        }
+    }
+
+    @Benchmark
+    public int checkKill() {
+        int kills = 0;
+        for (int i = 0; i < COUNT; i++) {
+            scratch.copyFrom(positions[i]);
+            if (Rules.checkKill(scratch, players[i], cells[i])) kills++;
+        }
+        return kills;
+    }
+
+    @Benchmark
+    public int copyOnly() {
+        int total = 0;
+        for (int i = 0; i < COUNT; i++) {
+            scratch.copyFrom(positions[i]);
+            total += scratch.getCurrentSeat();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ludo.ludofun.benchmark;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// What BoardView.setTurn does for every roll: find the tokens that can move.
+// Each operation covers 64 positions and all six dice faces.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveGenerationBenchmark {
+
+    private GameState[] positions;
+    private final int[] movable = new int[Board.TOKENS];
+
+    @Setup
+    public void setup() {
+        positions = Positions.midGame(64, 80, 1, new int[64]);
+    }
+
+    @Benchmark
+    public int movableTokens() {
+        int total = 0;
+        for (GameState state : positions) {
+            int player = state.getCurrentPlayer();
+            for (int dice = 1; dice <= 6; dice++) total += Rules.movableTokens(state, player, dice, movable);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int canMove() {
+        int total = 0;
+        for (GameState state : positions) {
+            for (int p = 1; p <= Board.PLAYERS; p++) {
+                for (int t = 0; t < Board.TOKENS; t++) {
+                    int steps = state.getSteps(p, t);
+                    for (int dice = 1; dice <= 6; dice++) {
+                        if (Rules.canMove(steps, dice)) total++;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ludo.ludofun.benchmark;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+
+import java.util.SplittableRandom;
+
+// Reproducible positions from random play, so every run measures the same work
+final class Positions {
+
+    private Positions() {}
+
+    // 4-player positions after the given number of random moves, with a roll accepted
+    // whose dice is returned in dice[i]
+    static GameState[] midGame(int count, int moves, long seed, int[] dice) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] movable = new int[Board.TOKENS];
+        GameState[] positions = new GameState[count];
+        for (int i = 0; i < count; i++) {
+            GameState state = new GameState(4);
+            state.setCurrentSeat(random.nextInt(4) + 1);
+            int m = 0;
+            while (true) {
+                int player = state.getCurrentPlayer();
+                int roll;
+                do {
+                    roll = random.nextInt(6) + 1;
+                } while (!Rules.acceptRoll(state, roll));
+                int n = Rules.movableTokens(state, player, roll, movable);
+                if (m >= moves && n > 1) {
+                    dice[i] = roll;
+                    break;
+                }
+                if (n == 0) {
+                    Rules.nextPlayer(state);
+                    continue;
+                }
+                int flags = Rules.applyMove(state, player, movable[random.nextInt(n)], roll);
+                if ((flags & Rules.MOVE_FINISHED_PLAYER) != 0) {
+                    state.reset(4); // went too far, start again
+                    m = 0;
+                    continue;
+                }
+                if (!Rules.grantsExtraTurn(flags, roll)) Rules.nextPlayer(state);
+                m++;
+            }
+            positions[i] = state;
+        }
+        return positions;
+    }
+}
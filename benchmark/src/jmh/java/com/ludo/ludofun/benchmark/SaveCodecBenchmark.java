@@ -0,0 +1,49 @@
+package com.ludo.ludofun.benchmark;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.SaveCodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// The text save of earlier versions: four token arrays and the winners. Only
+// read now, when GameSaveFile migrates an old save; kept as the baseline that
+// GameSnapshotBenchmark is compared against.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SaveCodecBenchmark {
+
+    private GameState position;
+    private final GameState restored = new GameState(4);
+    private final String[] saved = new String[Board.PLAYERS + 1];
+
+    @Setup
+    public void setup() {
+        position = Positions.midGame(1, 80, 4, new int[1])[0];
+        position.addWinner(2);
+        save();
+    }
+
+    @Benchmark
+    public String[] save() {
+        for (int p = 1; p <= Board.PLAYERS; p++) saved[p - 1] = SaveCodec.encodeTokens(position, p);
+        saved[Board.PLAYERS] = SaveCodec.encodeWinners(position);
+        return saved;
+    }
+
+    @Benchmark
+    public GameState restore() {
+        for (int p = 1; p <= Board.PLAYERS; p++) SaveCodec.decodeTokens(saved[p - 1], restored, p);
+        SaveCodec.decodeWinners(saved[Board.PLAYERS], restored);
+        return restored;
+    }
+}
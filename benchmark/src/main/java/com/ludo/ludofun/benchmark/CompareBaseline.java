@@ -0,0 +1,138 @@
+package com.ludo.ludofun.benchmark;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares a JMH CSV result file against the stored baseline.
+ *
+ * <pre>
+ * ./gradlew :benchmark:jmh :benchmark:jmhCompare
+ * </pre>
+ *
+ * A benchmark regresses when it is more than the threshold percentage slower
+ * and the error bars of the two runs do not overlap. Exits with status 1 if
+ * anything regressed. To accept the current numbers as the new baseline,
+ * copy build/results/jmh/results.csv over baseline/results.csv.
+ */
+public class CompareBaseline {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareBaseline <baseline.csv> <results.csv> [threshold %]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, Result> baseline = read(args[0]);
+        Map<String, Result> current = read(args[1]);
+
+        int regressions = 0;
+        System.out.println(String.format(Locale.US, "%-55s %14s %14s %8s", "Benchmark", "Baseline", "Current", "Change"));
+        for (Result now : current.values()) {
+            Result before = baseline.get(now.name);
+            if (before == null) {
+                System.out.println(String.format(Locale.US, "%-55s %14s %14s %8s", now.name, "-", now.format(), "new"));
+                continue;
+            }
+            if (!before.unit.equals(now.unit) || !before.mode.equals(now.mode)) {
+                System.out.println(String.format(Locale.US, "%-55s units differ (%s %s vs %s %s), skipped",
+                        now.name, before.mode, before.unit, now.mode, now.unit));
+                continue;
+            }
+            // Positive means slower, whichever way the mode counts
+            boolean higherIsBetter = now.mode.equals("thrpt");
+            double change = (now.score - before.score) / before.score;
+            if (higherIsBetter) change = -change;
+            boolean separated = higherIsBetter
+                    ? now.score + now.error < before.score - before.error
+                    : now.score - now.error > before.score + before.error;
+            boolean regressed = change > threshold && separated;
+            if (regressed) regressions++;
+            System.out.println(String.format(Locale.US, "%-55s %14s %14s %+7.1f%%%s",
+                    now.name, before.format(), now.format(), change * 100, regressed ? "  REGRESSION" : ""));
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) System.out.println(String.format(Locale.US, "%-55s not run", name));
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) more than " + Math.round(threshold * 100) + "% slower");
+            System.exit(1);
+        }
+        System.out.println("No regressions beyond " + Math.round(threshold * 100) + "%");
+    }
+
+    private static Map<String, Result> read(String path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8))) {
+            String header = in.readLine();
+            if (header == null || !header.startsWith("\"Benchmark\"")) throw new IOException(path + " is not a JMH CSV file");
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                List<String> fields = split(line);
+                // Benchmark, Mode, Threads, Samples, Score, Score Error (99.9%), Unit, Param...
+                String name = fields.get(0);
+                int dot = name.lastIndexOf('.', name.lastIndexOf('.') - 1);
+                StringBuilder key = new StringBuilder(name.substring(dot + 1));
+                for (int i = 7; i < fields.size(); i++) key.append(i == 7 ? ":" : ",").append(fields.get(i));
+                double error = fields.get(5).isEmpty() || fields.get(5).equals("NaN") ? 0 : number(fields.get(5));
+                Result result = new Result(key.toString(), fields.get(1), number(fields.get(4)), error, fields.get(6));
+                results.put(result.name, result);
+            }
+        }
+        return results;
+    }
+
+    // JMH writes numbers in the default locale, so a decimal comma is possible
+    private static double number(String field) {
+        return Double.parseDouble(field.replace(',', '.'));
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class Result {
+        final String name;
+        final String mode;
+        final double score;
+        final double error;
+        final String unit;
+
+        Result(String name, String mode, double score, double error, String unit) {
+            this.name = name;
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        String format() {
+            return String.format(Locale.US, "%.1f %s", score, unit);
+        }
+    }
+}
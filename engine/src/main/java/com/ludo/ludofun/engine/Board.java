@@ -0,0 +1,113 @@
+package com.ludo.ludofun.engine;
+
+/**
+ * Fixed board layout shared by the rules and the renderers. Players are numbered
+ * 1..4 (Red, Green, Yellow, Blue) and tokens are stored as steps moved from
+ * their start cell.
+ */
+public final class Board {
+
+    public static final int PLAYERS = 4;
+    public static final int TOKENS = 4;
+
+    // ===== STEPS (-1 = Home, 0-50 = Main Path, 51-56 = Home Path/Goal) =====
+    public static final int HOME = -1;
+    public static final int LAST_MAIN_STEP = 50;
+    public static final int GOAL = 56;
+
+    // ===== CELLS (0-51 = Main Path, 52-75 = Home Paths, 6 per player) =====
+    public static final int MAIN_PATH_CELLS = 52;
+    public static final int HOME_LANE_CELLS = 6;
+    public static final int CELLS = MAIN_PATH_CELLS + PLAYERS * HOME_LANE_CELLS;
+    public static final int NO_CELL = -1;
+
+    public static final int GRID_SIZE = 15;
+
+    // Grid column/row of every cell
+    private static final int[][] PATH = {
+        // Main Path (52 cells, index 0-51)
+        {0,6}, {1,6}, {2,6}, {3,6}, {4,6}, {5,6}, // 0-5
+        {6,5}, {6,4}, {6,3}, {6,2}, {6,1}, {6,0}, // 6-11
+        {7,0}, // 12
+        {8,0}, {8,1}, {8,2}, {8,3}, {8,4}, {8,5}, // 13-18
+        {9,6}, {10,6}, {11,6}, {12,6}, {13,6}, {14,6}, // 19-24
+        {14,7}, // 25
+        {14,8}, {13,8}, {12,8}, {11,8}, {10,8}, {9,8}, // 26-31
+        {8,9}, {8,10}, {8,11}, {8,12}, {8,13}, {8,14}, // 32-37
+        {7,14}, // 38
+        {6,14}, {6,13}, {6,12}, {6,11}, {6,10}, {6,9}, // 39-44
+        {5,8}, {4,8}, {3,8}, {2,8}, {1,8}, {0,8}, // 45-50
+        {0,7}, // 51
+
+        // Home Paths (6 cells each)
+        // Red (Player 1) - 52-57
+        {1,7}, {2,7}, {3,7}, {4,7}, {5,7}, {6,7},
+        // Green (Player 2) - 58-63
+        {7,1}, {7,2}, {7,3}, {7,4}, {7,5}, {7,6},
+        // Yellow (Player 3) - 64-69
+        {7,13}, {7,12}, {7,11}, {7,10}, {7,9}, {7,8},
+        // Blue (Player 4) - 70-75
+        {13,7}, {12,7}, {11,7}, {10,7}, {9,7}, {8,7}
+    };
+
+    private static final int[] START_INDEX = {1, 14, 40, 27}; // Red, Green, Yellow, Blue
+    private static final int[] SAFE_SPOTS = {1, 9, 14, 22, 27, 35, 40, 48};
+    private static final boolean[] SAFE = new boolean[MAIN_PATH_CELLS];
+
+    // Cell for every (player, steps) pair, steps -1..56, so cellOf is one array read
+    public static final int STEP_VALUES = GOAL + 2;
+    private static final int[] CELL_OF = new int[PLAYERS * STEP_VALUES];
+
+    static {
+        for (int s : SAFE_SPOTS) SAFE[s] = true;
+
+        for (int player = 1; player <= PLAYERS; player++) {
+            for (int steps = HOME; steps <= GOAL; steps++) {
+                int cell;
+                if (steps == HOME) {
+                    cell = NO_CELL;
+                } else if (steps <= LAST_MAIN_STEP) {
+                    cell = (START_INDEX[player - 1] + steps) % MAIN_PATH_CELLS;
+                } else {
+                    cell = MAIN_PATH_CELLS + (player - 1) * HOME_LANE_CELLS + (steps - LAST_MAIN_STEP - 1);
+                }
+                CELL_OF[(player - 1) * STEP_VALUES + steps + 1] = cell;
+            }
+        }
+    }
+
+    private Board() {}
+
+    // Cell a token of this player stands on, or NO_CELL while it is still at home
+    public static int cellOf(int player, int steps) {
+        return CELL_OF[(player - 1) * STEP_VALUES + steps + 1];
+    }
+
+    public static boolean isMainPath(int cell) {
+        return cell >= 0 && cell < MAIN_PATH_CELLS;
+    }
+
+    public static boolean isSafe(int cell) {
+        return cell >= 0 && cell < MAIN_PATH_CELLS && SAFE[cell];
+    }
+
+    public static int startIndex(int player) {
+        return START_INDEX[player - 1];
+    }
+
+    public static int column(int cell) {
+        return PATH[cell][0];
+    }
+
+    public static int row(int cell) {
+        return PATH[cell][1];
+    }
+
+    public static int safeSpotCount() {
+        return SAFE_SPOTS.length;
+    }
+
+    public static int safeSpot(int i) {
+        return SAFE_SPOTS[i];
+    }
+}
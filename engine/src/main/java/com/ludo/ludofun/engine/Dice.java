@@ -0,0 +1,6 @@
+package com.ludo.ludofun.engine;
+
+// Source of die faces, 1..6
+public interface Dice {
+    int roll();
+}
@@ -0,0 +1,31 @@
+package com.ludo.ludofun.engine;
+
+/**
+ * Schedules everything a turn waits for: dice animation, pauses between steps,
+ * computer thinking pauses. Delays are given at normal speed and scaled by the
+ * current {@link GameSpeed}, so one switch speeds up the whole game. The app
+ * runs this on the main thread's Handler; tests use {@link VirtualGameClock}.
+ */
+public interface GameClock {
+
+    // Game time in milliseconds; only differences are meaningful
+    long now();
+
+    // Runs the task once, after delayMillis at normal speed
+    void schedule(Runnable task, long delayMillis);
+
+    // Removes every pending run of the task
+    void cancel(Runnable task);
+
+    // Drops everything pending, e.g. when the game screen goes away
+    void cancelAll();
+
+    GameSpeed getSpeed();
+
+    void setSpeed(GameSpeed speed);
+
+    // Animation length at the current speed
+    default long scale(long millis) {
+        return getSpeed().scale(millis);
+    }
+}
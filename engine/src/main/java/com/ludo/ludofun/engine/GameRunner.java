@@ -0,0 +1,191 @@
+package com.ludo.ludofun.engine;
+
+import com.ludo.ludofun.engine.ai.AiPlayer;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Plays complete games without any UI, following the same turn flow as
+ * GameActivity: a third six is rolled again, a roll with no movable token passes
+ * the turn, and a kill, a token reaching the goal or a six earns another roll.
+ * A runner reuses its buffers, so playing a game does not allocate.
+ *
+ * <p>{@link #playTimed} plays the same turns on a {@link GameClock} with the
+ * pauses GameActivity and BoardView make for a computer seat, so a
+ * {@link VirtualGameClock} shows how long a game takes on screen.
+ */
+public final class GameRunner {
+
+    // Safety net against strategies that never finish a game
+    public static final int MAX_TURNS = 10_000;
+
+    private final GameState state;
+    private final int[] movable = new int[Board.TOKENS];
+    private final int[] killsBy = new int[Board.PLAYERS];
+    private int turns;
+    private int moves;
+    private int kills;
+
+    // Set for the duration of a playTimed game
+    private AiPlayer[] seats;
+    private Dice dice;
+    private GameClock clock;
+    private IntConsumer onFinished;
+    private int roll;
+    private int token;
+    private final Runnable rollTask = this::timedRoll;
+    private final Runnable resultTask = this::timedResult;
+    private final Runnable passTask = this::timedPass;
+    private final Runnable moveTask = this::timedMove;
+    private final Runnable landTask = this::timedLand;
+
+    public GameRunner(GameState state) {
+        this.state = state;
+    }
+
+    public GameState getState() { return state; }
+
+    /**
+     * Plays the current state to the end. seats holds one AI per logical seat
+     * (index 0 = seat 1). Returns the winning colour, or 0 if MAX_TURNS was hit.
+     */
+    public int play(AiPlayer[] seats, Dice dice) {
+        resetCounts();
+        while (turns <= MAX_TURNS) {
+            int player = state.getCurrentPlayer();
+            int roll = roll(dice);
+
+            int count = Rules.movableTokens(state, player, roll, movable);
+            if (count == 0) {
+                nextTurn();
+                continue;
+            }
+
+            int token = count == 1
+                    ? movable[0]
+                    : seats[state.getCurrentSeat() - 1].chooseMove(state, player, roll, movable, count);
+            int flags = applyMove(player, token, roll);
+            int winner = Rules.getWinner(state);
+            if (winner != 0) return winner;
+
+            if (state.isFinished(player) || !Rules.grantsExtraTurn(flags, roll)) {
+                nextTurn();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Plays the current state to the end on clock, one scheduled step at a
+     * time, and then passes the winner (or 0 if MAX_TURNS was hit) to
+     * onFinished. Every seat is played as the computer: roll after
+     * AI_ROLL_DELAY_MS, land the dice, pass or move, then step the token cell
+     * by cell. Choosing a move takes no game time.
+     */
+    public void playTimed(AiPlayer[] seats, Dice dice, GameClock clock, IntConsumer onFinished) {
+        this.seats = seats;
+        this.dice = dice;
+        this.clock = clock;
+        this.onFinished = onFinished;
+        resetCounts();
+        clock.schedule(rollTask, TurnTimings.AI_ROLL_DELAY_MS);
+    }
+
+    private void timedRoll() {
+        roll = roll(dice);
+        clock.schedule(resultTask, TurnTimings.DICE_ROLL_MS + TurnTimings.DICE_RESULT_MS);
+    }
+
+    private void timedResult() {
+        int player = state.getCurrentPlayer();
+        int count = Rules.movableTokens(state, player, roll, movable);
+        if (count == 0) {
+            clock.schedule(passTask, TurnTimings.NO_MOVE_PASS_MS);
+        } else if (Rules.isForcedMove(state, player, movable, count)) {
+            token = movable[0];
+            clock.schedule(moveTask, TurnTimings.AUTO_MOVE_MS);
+        } else {
+            token = seats[state.getCurrentSeat() - 1].chooseMove(state, player, roll, movable, count);
+            clock.schedule(moveTask, TurnTimings.AI_MOVE_DELAY_MS);
+        }
+    }
+
+    private void timedPass() {
+        nextTurn();
+        nextTimedTurn();
+    }
+
+    // The token walks one cell per TOKEN_STEP_MS, or one hop out of home
+    private void timedMove() {
+        int from = state.getSteps(state.getCurrentPlayer(), token);
+        int cells = from == Board.HOME ? 1 : Rules.targetSteps(from, roll) - from;
+        clock.schedule(landTask, cells * TurnTimings.TOKEN_STEP_MS);
+    }
+
+    private void timedLand() {
+        int player = state.getCurrentPlayer();
+        int flags = applyMove(player, token, roll);
+        int winner = Rules.getWinner(state);
+        if (winner != 0) {
+            finishTimed(winner);
+            return;
+        }
+        if (state.isFinished(player) || !Rules.grantsExtraTurn(flags, roll)) nextTurn();
+        nextTimedTurn();
+    }
+
+    private void nextTimedTurn() {
+        if (turns > MAX_TURNS) {
+            finishTimed(0);
+        } else {
+            clock.schedule(rollTask, TurnTimings.AI_ROLL_DELAY_MS);
+        }
+    }
+
+    private void finishTimed(int winner) {
+        IntConsumer done = onFinished;
+        seats = null;
+        dice = null;
+        clock = null;
+        onFinished = null;
+        done.accept(winner);
+    }
+
+    private void resetCounts() {
+        turns = 1;
+        moves = 0;
+        kills = 0;
+        for (int p = 0; p < Board.PLAYERS; p++) killsBy[p] = 0;
+    }
+
+    private int roll(Dice dice) {
+        int roll;
+        do {
+            roll = dice.roll();
+        } while (!Rules.acceptRoll(state, roll));
+        return roll;
+    }
+
+    private int applyMove(int player, int token, int roll) {
+        int flags = Rules.applyMove(state, player, token, roll);
+        moves++;
+        if ((flags & Rules.MOVE_KILLED) != 0) {
+            kills++;
+            killsBy[player - 1]++;
+        }
+        return flags;
+    }
+
+    private void nextTurn() {
+        Rules.nextPlayer(state);
+        turns++;
+    }
+
+    public int getTurns() { return turns; }
+    public int getMoves() { return moves; }
+    public int getKills() { return kills; }
+
+    public int getKillsBy(int player) {
+        return killsBy[player - 1];
+    }
+}
@@ -0,0 +1,105 @@
+package com.ludo.ludofun.engine;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Fixed-size binary form of a game in progress, written after every move.
+ *
+ * <p>{@value #SIZE} bytes, big-endian: magic, version, total players, current
+ * seat, consecutive sixes, flags, winner count, four winner slots in finishing
+ * order (0 when empty), the 16 token steps as signed bytes (Red, Green, Yellow,
+ * Blue, four tokens each), and a CRC-32 of everything before it. Flags belong
+ * to the caller; the app stores {@link #FLAG_VS_COMPUTER}.
+ *
+ * <p>Games saved before this format are the JSON text read by {@link SaveCodec}.
+ */
+public final class GameSnapshot {
+
+    public static final int MAGIC = 0x4C535631; // "LSV1"
+    public static final int VERSION = 1;
+    public static final int SIZE = 34;
+
+    public static final int FLAG_VS_COMPUTER = 1;
+
+    private static final int VERSION_AT = 4;
+    private static final int PLAYERS_AT = 5;
+    private static final int SEAT_AT = 6;
+    private static final int SIXES_AT = 7;
+    private static final int FLAGS_AT = 8;
+    private static final int WINNER_COUNT_AT = 9;
+    private static final int WINNERS_AT = 10;
+    private static final int TOKENS_AT = WINNERS_AT + Board.PLAYERS;
+    private static final int CRC_AT = TOKENS_AT + Board.PLAYERS * Board.TOKENS;
+
+    private GameSnapshot() {}
+
+    // Writes the first SIZE bytes of out
+    public static void write(GameState state, int flags, byte[] out) {
+        ByteBuffer buffer = ByteBuffer.wrap(out);
+        buffer.putInt(0, MAGIC);
+        out[VERSION_AT] = VERSION;
+        out[PLAYERS_AT] = (byte) state.getTotalPlayers();
+        out[SEAT_AT] = (byte) state.getCurrentSeat();
+        out[SIXES_AT] = (byte) state.getConsecutiveSixes();
+        out[FLAGS_AT] = (byte) flags;
+        out[WINNER_COUNT_AT] = (byte) state.getWinnerCount();
+        for (int i = 0; i < Board.PLAYERS; i++) {
+            out[WINNERS_AT + i] = (byte) (i < state.getWinnerCount() ? state.getWinner(i) : 0);
+        }
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            for (int t = 0; t < Board.TOKENS; t++) {
+                out[TOKENS_AT + (p - 1) * Board.TOKENS + t] = (byte) state.getSteps(p, t);
+            }
+        }
+        buffer.putInt(CRC_AT, crc(out));
+    }
+
+    /**
+     * Loads a snapshot into state and returns its flags. Throws
+     * IllegalArgumentException, leaving state untouched, unless data is a
+     * complete, undamaged version {@value #VERSION} snapshot of a legal position.
+     */
+    public static int read(byte[] data, GameState state) {
+        if (data.length != SIZE) throw new IllegalArgumentException("Snapshot is " + data.length + " bytes");
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.getInt(0) != MAGIC) throw new IllegalArgumentException("Not a saved game");
+        if (data[VERSION_AT] != VERSION) throw new IllegalArgumentException("Unsupported version " + data[VERSION_AT]);
+        if (buffer.getInt(CRC_AT) != crc(data)) throw new IllegalArgumentException("Checksum mismatch");
+
+        int totalPlayers = data[PLAYERS_AT];
+        int seat = data[SEAT_AT];
+        int sixes = data[SIXES_AT];
+        int winnerCount = data[WINNER_COUNT_AT];
+        if (totalPlayers < 2 || totalPlayers > Board.PLAYERS
+                || seat < 1 || seat > totalPlayers
+                || sixes < 0 || sixes > Rules.MAX_CONSECUTIVE_SIXES + 1
+                || winnerCount < 0 || winnerCount > Board.PLAYERS) {
+            throw new IllegalArgumentException("Bad turn state");
+        }
+        for (int i = 0; i < winnerCount; i++) {
+            int winner = data[WINNERS_AT + i];
+            if (winner < 1 || winner > Board.PLAYERS) throw new IllegalArgumentException("Not a player: " + winner);
+        }
+        for (int i = TOKENS_AT; i < CRC_AT; i++) {
+            if (data[i] < Board.HOME || data[i] > Board.GOAL) throw new IllegalArgumentException("Steps out of range: " + data[i]);
+        }
+
+        state.reset(totalPlayers);
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            for (int t = 0; t < Board.TOKENS; t++) {
+                state.setSteps(p, t, data[TOKENS_AT + (p - 1) * Board.TOKENS + t]);
+            }
+        }
+        for (int i = 0; i < winnerCount; i++) state.addWinner(data[WINNERS_AT + i]);
+        state.setCurrentSeat(seat);
+        state.setConsecutiveSixes(sixes);
+        return data[FLAGS_AT] & 0xFF;
+    }
+
+    private static int crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, CRC_AT);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,19 @@
+package com.ludo.ludofun.engine;
+
+// How fast game time runs: every delay and turn animation is divided by the factor.
+// INSTANT keeps the order of events but drops all waiting.
+public enum GameSpeed {
+    NORMAL(1),
+    FAST(4),
+    INSTANT(0);
+
+    private final int factor;
+
+    GameSpeed(int factor) {
+        this.factor = factor;
+    }
+
+    public long scale(long millis) {
+        return factor == 0 ? 0 : millis / factor;
+    }
+}
@@ -0,0 +1,174 @@
+package com.ludo.ludofun.engine;
+
+import java.util.Arrays;
+
+/**
+ * Mutable game position: token steps for every colour, whose turn it is, the
+ * consecutive-six counter and the finishing order. Reused in place, so callers
+ * that need a snapshot should {@link #copyFrom(GameState)} into their own instance.
+ *
+ * <p>The 16 tokens are packed 6 bits each (steps + 1) into two longs, Red/Green in
+ * the low word and Yellow/Blue in the high word. Alongside, every board cell keeps
+ * a 16-bit mask of the token slots standing on it so kill and threat checks are
+ * single lookups instead of scans over all tokens.
+ *
+ * <p>{@link #getHash()} is a Zobrist hash of the position (see {@link Zobrist});
+ * the token part is updated with every move.
+ */
+public final class GameState {
+
+    private static final int BITS_PER_TOKEN = 6;
+    private static final long TOKEN_MASK = (1L << BITS_PER_TOKEN) - 1;
+    private static final int SLOTS_PER_WORD = 8;
+
+    private long low;  // players 1-2
+    private long high; // players 3-4
+    private final char[] occupancy = new char[Board.CELLS];
+    private long tokenHash; // sum of Zobrist.token() over all tokens
+
+    private int winners; // 4 bits per place, first finisher in the lowest bits
+    private int winnerCount;
+    private int totalPlayers;
+    private int currentSeat = 1;
+    private int consecutiveSixes;
+
+    public GameState(int totalPlayers) {
+        reset(totalPlayers);
+    }
+
+    public void reset(int totalPlayers) {
+        this.totalPlayers = totalPlayers;
+        // steps + 1 == 0 for every token, i.e. everyone at home
+        low = 0L;
+        high = 0L;
+        Arrays.fill(occupancy, (char) 0);
+        tokenHash = 0L;
+        winners = 0;
+        winnerCount = 0;
+        currentSeat = 1;
+        consecutiveSixes = 0;
+    }
+
+    public void copyFrom(GameState other) {
+        low = other.low;
+        high = other.high;
+        System.arraycopy(other.occupancy, 0, occupancy, 0, Board.CELLS);
+        tokenHash = other.tokenHash;
+        winners = other.winners;
+        winnerCount = other.winnerCount;
+        totalPlayers = other.totalPlayers;
+        currentSeat = other.currentSeat;
+        consecutiveSixes = other.consecutiveSixes;
+    }
+
+    public int getTotalPlayers() { return totalPlayers; }
+    public void setTotalPlayers(int totalPlayers) { this.totalPlayers = totalPlayers; }
+
+    public boolean isPlayerActive(int player) {
+        return Seats.isPlayerActive(totalPlayers, player);
+    }
+
+    // ===== TOKENS =====
+    public static int slot(int player, int token) {
+        return (player - 1) * Board.TOKENS + token;
+    }
+
+    public static int slotPlayer(int slot) {
+        return slot / Board.TOKENS + 1;
+    }
+
+    public static int slotToken(int slot) {
+        return slot % Board.TOKENS;
+    }
+
+    // Bits of this player's four slots in an occupancy mask
+    public static int playerMask(int player) {
+        return 0xF << ((player - 1) * Board.TOKENS);
+    }
+
+    public int getSteps(int player, int token) {
+        int slot = slot(player, token);
+        long word = slot < SLOTS_PER_WORD ? low : high;
+        int shift = (slot & (SLOTS_PER_WORD - 1)) * BITS_PER_TOKEN;
+        return (int) ((word >>> shift) & TOKEN_MASK) - 1;
+    }
+
+    public void setSteps(int player, int token, int steps) {
+        int slot = slot(player, token);
+        int shift = (slot & (SLOTS_PER_WORD - 1)) * BITS_PER_TOKEN;
+        long cleared = ~(TOKEN_MASK << shift);
+        long value = (long) (steps + 1) << shift;
+
+        int oldSteps = getSteps(player, token);
+        tokenHash += Zobrist.token(player, steps) - Zobrist.token(player, oldSteps);
+
+        int oldCell = Board.cellOf(player, oldSteps);
+        if (oldCell != Board.NO_CELL) occupancy[oldCell] &= (char) ~(1 << slot);
+        int newCell = Board.cellOf(player, steps);
+        if (newCell != Board.NO_CELL) occupancy[newCell] |= (char) (1 << slot);
+
+        if (slot < SLOTS_PER_WORD) {
+            low = (low & cleared) | value;
+        } else {
+            high = (high & cleared) | value;
+        }
+    }
+
+    public void getTokens(int player, int[] out) {
+        for (int t = 0; t < Board.TOKENS; t++) out[t] = getSteps(player, t);
+    }
+
+    public void setTokens(int player, int[] steps) {
+        for (int t = 0; t < Board.TOKENS; t++) setSteps(player, t, steps[t]);
+    }
+
+    // Mask of the token slots on a cell (see slot()), 0 when it is empty
+    public int getOccupants(int cell) {
+        return occupancy[cell];
+    }
+
+    public long getPackedLow() { return low; }
+    public long getPackedHigh() { return high; }
+
+    public long getHash() {
+        return tokenHash ^ Zobrist.seat(currentSeat) ^ Zobrist.sixes(consecutiveSixes)
+                ^ Zobrist.totalPlayers(totalPlayers);
+    }
+
+    // ===== TURN =====
+    public int getCurrentSeat() { return currentSeat; }
+    public void setCurrentSeat(int seat) { this.currentSeat = seat; }
+
+    public int getCurrentPlayer() {
+        return Seats.ludoPlayer(totalPlayers, currentSeat);
+    }
+
+    public int getConsecutiveSixes() { return consecutiveSixes; }
+    public void setConsecutiveSixes(int count) { this.consecutiveSixes = count; }
+
+    // ===== WINNERS (in finishing order) =====
+    public int getWinnerCount() { return winnerCount; }
+
+    public int getWinner(int place) {
+        return (winners >>> (place * 4)) & 0xF;
+    }
+
+    public boolean isFinished(int player) {
+        for (int i = 0; i < winnerCount; i++) {
+            if (getWinner(i) == player) return true;
+        }
+        return false;
+    }
+
+    public void addWinner(int player) {
+        if (!isFinished(player) && winnerCount < Board.PLAYERS) {
+            winners |= player << (winnerCount * 4);
+            winnerCount++;
+        }
+    }
+
+    public void clearWinners() {
+        winners = 0;
+        winnerCount = 0;
+    }
+}
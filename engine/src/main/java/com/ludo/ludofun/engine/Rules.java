@@ -0,0 +1,168 @@
+package com.ludo.ludofun.engine;
+
+/**
+ * Ludo rules operating on a {@link GameState}. Nothing here allocates, so move
+ * generation and application can run in tight simulation and search loops.
+ */
+public final class Rules {
+
+    // Flags returned by applyMove
+    public static final int MOVE_KILLED = 1;
+    public static final int MOVE_REACHED_GOAL = 1 << 1;
+    public static final int MOVE_FINISHED_PLAYER = 1 << 2;
+
+    public static final int MAX_CONSECUTIVE_SIXES = 2;
+
+    private Rules() {}
+
+    public static boolean canMove(int steps, int dice) {
+        if (steps == Board.HOME) return dice == 6;
+        return steps + dice <= Board.GOAL;
+    }
+
+    public static int targetSteps(int steps, int dice) {
+        return (steps == Board.HOME) ? 0 : steps + dice;
+    }
+
+    public static boolean hasMovableToken(GameState state, int player, int dice) {
+        int unfinishedCount = 0;
+        int lastTokenIndex = -1;
+        for (int i = 0; i < Board.TOKENS; i++) {
+            if (state.getSteps(player, i) < Board.GOAL) {
+                unfinishedCount++;
+                lastTokenIndex = i;
+            }
+        }
+
+        // Special Rule: If last token is "inside" home path (distance < 6), rolling a 6 will not work.
+        if (unfinishedCount == 1 && dice == 6) {
+            if (state.getSteps(player, lastTokenIndex) > Board.LAST_MAIN_STEP) return false;
+        }
+
+        for (int i = 0; i < Board.TOKENS; i++) {
+            if (canMove(state.getSteps(player, i), dice)) return true;
+        }
+        return false;
+    }
+
+    // Fills out with the indices of the tokens that can move and returns how many there are
+    public static int movableTokens(GameState state, int player, int dice, int[] out) {
+        if (!hasMovableToken(state, player, dice)) return 0;
+        int count = 0;
+        for (int i = 0; i < Board.TOKENS; i++) {
+            if (canMove(state.getSteps(player, i), dice)) out[count++] = i;
+        }
+        return count;
+    }
+
+    // True when the movable tokens all stand on the same square: which one moves
+    // makes no difference, so the game moves the first without asking
+    public static boolean isForcedMove(GameState state, int player, int[] movable, int count) {
+        int steps = state.getSteps(player, movable[0]);
+        for (int i = 1; i < count; i++) {
+            if (state.getSteps(player, movable[i]) != steps) return false;
+        }
+        return true;
+    }
+
+    // Moves the token to its target, resolves a kill and records a finished player
+    public static int applyMove(GameState state, int player, int token, int dice) {
+        int finalSteps = targetSteps(state.getSteps(player, token), dice);
+        state.setSteps(player, token, finalSteps);
+
+        int flags = 0;
+        if (finalSteps <= Board.LAST_MAIN_STEP && checkKill(state, player, Board.cellOf(player, finalSteps))) {
+            flags |= MOVE_KILLED;
+        }
+        if (finalSteps == Board.GOAL) flags |= MOVE_REACHED_GOAL;
+
+        if (isAllFinished(state, player) && !state.isFinished(player)) {
+            state.addWinner(player);
+            flags |= MOVE_FINISHED_PLAYER;
+        }
+        return flags;
+    }
+
+    // Sends one opponent token standing on the cell back home. Returns true if one was found.
+    public static boolean checkKill(GameState state, int player, int cell) {
+        int victims = capturable(state, player, cell);
+        if (victims == 0) return false;
+
+        // Kill the LAST token that reached this position (highest slot, as the old scan order did).
+        int slot = 31 - Integer.numberOfLeadingZeros(victims);
+        state.setSteps(GameState.slotPlayer(slot), GameState.slotToken(slot), Board.HOME);
+        return true;
+    }
+
+    // Mask of opponent tokens a token of this player would capture by landing on the cell
+    public static int capturable(GameState state, int player, int cell) {
+        if (!Board.isMainPath(cell) || Board.isSafe(cell)) return 0;
+        return state.getOccupants(cell) & ~GameState.playerMask(player);
+    }
+
+    // True if an opponent on the main path could land on this cell with a single roll
+    public static boolean isThreatened(GameState state, int player, int cell) {
+        if (!Board.isMainPath(cell) || Board.isSafe(cell)) return false;
+        int own = GameState.playerMask(player);
+        for (int d = 1; d <= 6; d++) {
+            int behind = cell - d;
+            if (behind < 0) behind += Board.MAIN_PATH_CELLS;
+            int opponents = state.getOccupants(behind) & ~own;
+            while (opponents != 0) {
+                int slot = Integer.numberOfTrailingZeros(opponents);
+                opponents &= opponents - 1;
+                // The opponent must still be on the shared track after d steps
+                if (state.getSteps(GameState.slotPlayer(slot), GameState.slotToken(slot)) + d <= Board.LAST_MAIN_STEP) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean isAllFinished(GameState state, int player) {
+        for (int i = 0; i < Board.TOKENS; i++) {
+            if (state.getSteps(player, i) < Board.GOAL) return false;
+        }
+        return true;
+    }
+
+    // A kill, a token reaching the goal or a six earns another roll
+    public static boolean grantsExtraTurn(int moveFlags, int dice) {
+        return (moveFlags & (MOVE_KILLED | MOVE_REACHED_GOAL)) != 0 || dice == 6;
+    }
+
+    // Counts sixes for the current turn. Returns false when the roll must be
+    // thrown again because it would be a third six in a row.
+    public static boolean acceptRoll(GameState state, int dice) {
+        if (dice == 6) {
+            int sixes = state.getConsecutiveSixes() + 1;
+            state.setConsecutiveSixes(sixes);
+            return sixes <= MAX_CONSECUTIVE_SIXES;
+        }
+        state.setConsecutiveSixes(0);
+        return true;
+    }
+
+    // Hands the turn to the next seat that has not finished yet
+    public static void nextPlayer(GameState state) {
+        state.setConsecutiveSixes(0);
+        int total = state.getTotalPlayers();
+        int nextP = state.getCurrentSeat();
+        for (int i = 0; i < total; i++) {
+            nextP++;
+            if (nextP > total) nextP = 1;
+            if (!state.isFinished(Seats.ludoPlayer(total, nextP))) break;
+        }
+        state.setCurrentSeat(nextP);
+    }
+
+    // First finisher once everyone but one player is done, otherwise 0
+    public static int getWinner(GameState state) {
+        int activeCount = Seats.activeCount(state.getTotalPlayers());
+        if (state.getWinnerCount() >= activeCount - 1) {
+            return state.getWinnerCount() == 0 ? 0 : state.getWinner(0);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ludo.ludofun.engine;
+
+/**
+ * Text form of a saved game as stored in the preferences: one "[a,b,c,d]"
+ * array of token steps per colour and a "[p,...]" array of winners in
+ * finishing order. This is the same text JSONArray produces, so games saved by
+ * earlier versions load unchanged, but it runs on a plain JVM and does not
+ * allocate JSON objects.
+ *
+ * <p>Games are now saved as a {@link GameSnapshot}; this form is only read to
+ * migrate a game saved by an earlier version.
+ */
+public final class SaveCodec {
+
+    public static final String EMPTY_TOKENS = "[-1,-1,-1,-1]";
+    public static final String NO_WINNERS = "[]";
+
+    private SaveCodec() {}
+
+    public static String encodeTokens(GameState state, int player) {
+        StringBuilder sb = new StringBuilder(16);
+        sb.append('[');
+        for (int t = 0; t < Board.TOKENS; t++) {
+            if (t > 0) sb.append(',');
+            sb.append(state.getSteps(player, t));
+        }
+        return sb.append(']').toString();
+    }
+
+    public static String encodeWinners(GameState state) {
+        StringBuilder sb = new StringBuilder(12);
+        sb.append('[');
+        for (int i = 0; i < state.getWinnerCount(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(state.getWinner(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    // Throws IllegalArgumentException unless the text holds exactly four valid steps
+    public static void decodeTokens(String text, GameState state, int player) {
+        int[] steps = new int[Board.TOKENS];
+        if (parse(text, steps) != Board.TOKENS) {
+            throw new IllegalArgumentException("Expected " + Board.TOKENS + " tokens: " + text);
+        }
+        for (int t = 0; t < Board.TOKENS; t++) {
+            if (steps[t] < Board.HOME || steps[t] > Board.GOAL) {
+                throw new IllegalArgumentException("Steps out of range: " + text);
+            }
+        }
+        state.setTokens(player, steps);
+    }
+
+    public static void decodeWinners(String text, GameState state) {
+        int[] winners = new int[Board.PLAYERS];
+        int count = parse(text, winners);
+        state.clearWinners();
+        for (int i = 0; i < count; i++) {
+            if (winners[i] < 1 || winners[i] > Board.PLAYERS) {
+                throw new IllegalArgumentException("Not a player: " + text);
+            }
+            state.addWinner(winners[i]);
+        }
+    }
+
+    // Reads a flat array of integers into out and returns how many there were
+    private static int parse(String text, int[] out) {
+        int i = skipSpaces(text, 0);
+        if (i >= text.length() || text.charAt(i) != '[') throw new IllegalArgumentException("Not an array: " + text);
+        i = skipSpaces(text, i + 1);
+        int count = 0;
+        if (i < text.length() && text.charAt(i) == ']') return checkEnd(text, i, count);
+
+        while (true) {
+            boolean negative = i < text.length() && text.charAt(i) == '-';
+            if (negative) i++;
+            int start = i;
+            int value = 0;
+            while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9' && i - start < 4) {
+                value = value * 10 + (text.charAt(i) - '0');
+                i++;
+            }
+            if (i == start || count == out.length) throw new IllegalArgumentException("Bad array: " + text);
+            out[count++] = negative ? -value : value;
+
+            i = skipSpaces(text, i);
+            if (i >= text.length()) break;
+            char c = text.charAt(i);
+            if (c == ']') return checkEnd(text, i, count);
+            if (c != ',') break;
+            i = skipSpaces(text, i + 1);
+        }
+        throw new IllegalArgumentException("Bad array: " + text);
+    }
+
+    private static int checkEnd(String text, int close, int count) {
+        if (skipSpaces(text, close + 1) != text.length()) throw new IllegalArgumentException("Bad array: " + text);
+        return count;
+    }
+
+    private static int skipSpaces(String text, int i) {
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) i++;
+        return i;
+    }
+}
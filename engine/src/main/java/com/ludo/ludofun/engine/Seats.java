@@ -0,0 +1,41 @@
+package com.ludo.ludofun.engine;
+
+/**
+ * Maps logical seats (1..totalPlayers, the turn order) to board colours
+ * (1 = Red, 2 = Green, 3 = Yellow, 4 = Blue).
+ */
+public final class Seats {
+
+    private Seats() {}
+
+    public static int ludoPlayer(int totalPlayers, int logicalPlayer) {
+        if (totalPlayers == 2) {
+            return (logicalPlayer == 1) ? 3 : 2;
+        }
+        if (totalPlayers == 4) {
+            if (logicalPlayer == 1) return 1;
+            if (logicalPlayer == 2) return 2;
+            if (logicalPlayer == 3) return 4;
+            if (logicalPlayer == 4) return 3;
+        }
+        return logicalPlayer;
+    }
+
+    public static boolean isPlayerActive(int totalPlayers, int ludoPlayer) {
+        if (totalPlayers == 2) {
+            return ludoPlayer == 2 || ludoPlayer == 3;
+        }
+        if (totalPlayers == 3) {
+            return ludoPlayer == 1 || ludoPlayer == 2 || ludoPlayer == 3;
+        }
+        return true; // 4 players or default
+    }
+
+    public static int activeCount(int totalPlayers) {
+        int count = 0;
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            if (isPlayerActive(totalPlayers, p)) count++;
+        }
+        return count;
+    }
+}
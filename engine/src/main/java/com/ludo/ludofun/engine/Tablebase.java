@@ -0,0 +1,156 @@
+package com.ludo.ludofun.engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Exact expected number of turns one colour needs to bring all four tokens
+ * home when nothing else on the board can affect it (see {@link #isRace}).
+ *
+ * <p>Positions are the multiset of the four token steps, so there are
+ * C(61, 4) = 521,855 of them, numbered with the combinatorial number system.
+ * The file is a 16 byte header (magic, version, position count, fixed-point
+ * scale) followed by one unsigned 16-bit value per position, big-endian, as
+ * written by the simulator's TablebaseGenerator. Only the turn-start values
+ * are stored; values in the middle of a turn (after one or two sixes) are
+ * worked out from them with a short lookahead.
+ *
+ * <p>Reads are absolute, so one instance can be shared between threads.
+ */
+public final class Tablebase {
+
+    public static final int MAGIC = 0x4C544231; // "LTB1"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int POSITIONS = 521_855;
+
+    // Token values are steps + 1, 0..57; sorted and spread out they span 0..60
+    private static final int VALUES = Board.STEP_VALUES;
+    private static final int[][] BINOMIAL = new int[VALUES + 3][5];
+
+    static {
+        BINOMIAL[0][0] = 1;
+        for (int n = 1; n < BINOMIAL.length; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= 4; k++) BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final double scale;
+
+    private Tablebase(ByteBuffer buffer, int scale) {
+        this.buffer = buffer;
+        this.scale = scale;
+    }
+
+    // Wraps a table read or mapped from disk; throws if the header does not match
+    public static Tablebase from(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_BYTES + 2 * POSITIONS
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(4) != VERSION
+                || buffer.getInt(8) != POSITIONS) {
+            throw new IllegalArgumentException("Not a version " + VERSION + " endgame table");
+        }
+        return new Tablebase(buffer, buffer.getInt(12));
+    }
+
+    // Index of the position with tokens on these steps, in any order
+    public static int index(int s0, int s1, int s2, int s3) {
+        int a = s0 + 1, b = s1 + 1, c = s2 + 1, d = s3 + 1, t;
+        // Sorting network for four values
+        if (a > b) { t = a; a = b; b = t; }
+        if (c > d) { t = c; c = d; d = t; }
+        if (a > c) { t = a; a = c; c = t; }
+        if (b > d) { t = b; b = d; d = t; }
+        if (b > c) { t = b; b = c; c = t; }
+        return BINOMIAL[a][1] + BINOMIAL[b + 1][2] + BINOMIAL[c + 2][3] + BINOMIAL[d + 3][4];
+    }
+
+    public double expectedTurns(int s0, int s1, int s2, int s3) {
+        return buffer.getChar(HEADER_BYTES + 2 * index(s0, s1, s2, s3)) / scale;
+    }
+
+    public double expectedTurns(GameState state, int player) {
+        return expectedTurns(state.getSteps(player, 0), state.getSteps(player, 1),
+                state.getSteps(player, 2), state.getSteps(player, 3));
+    }
+
+    // True when no opponent can ever capture or be captured by this player:
+    // either its remaining tokens are all in the home lane, or every opponent
+    // token is in its own home lane or finished.
+    public static boolean isRace(GameState state, int player) {
+        boolean ownInLane = true;
+        for (int t = 0; t < Board.TOKENS; t++) {
+            if (state.getSteps(player, t) <= Board.LAST_MAIN_STEP) ownInLane = false;
+        }
+        if (ownInLane) return true;
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            if (p == player || !state.isPlayerActive(p)) continue;
+            for (int t = 0; t < Board.TOKENS; t++) {
+                if (state.getSteps(p, t) <= Board.LAST_MAIN_STEP) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Move that minimises the expected number of turns left. The state must
+     * have accepted the dice already, so its six counter includes this roll.
+     */
+    public int chooseMove(GameState state, int player, int dice, int[] movable, int count) {
+        int s0 = state.getSteps(player, 0), s1 = state.getSteps(player, 1);
+        int s2 = state.getSteps(player, 2), s3 = state.getSteps(player, 3);
+        int sixes = state.getConsecutiveSixes();
+
+        int best = movable[0];
+        double bestValue = Double.POSITIVE_INFINITY;
+        for (int m = 0; m < count; m++) {
+            double value = moveValue(s0, s1, s2, s3, movable[m], dice, sixes);
+            if (value < bestValue) {
+                bestValue = value;
+                best = movable[m];
+            }
+        }
+        return best;
+    }
+
+    // Expected turns after the current one once this token has moved.
+    // sixes is the count the next roll starts from if this roll was a six.
+    private double moveValue(int s0, int s1, int s2, int s3, int token, int dice, int sixes) {
+        int from = token == 0 ? s0 : token == 1 ? s1 : token == 2 ? s2 : s3;
+        int target = Rules.targetSteps(from, dice);
+        switch (token) {
+            case 0: s0 = target; break;
+            case 1: s1 = target; break;
+            case 2: s2 = target; break;
+            default: s3 = target; break;
+        }
+        if (s0 == Board.GOAL && s1 == Board.GOAL && s2 == Board.GOAL && s3 == Board.GOAL) return 0;
+        if (dice == 6) return midTurn(s0, s1, s2, s3, sixes);
+        double turns = expectedTurns(s0, s1, s2, s3);
+        // Reaching the goal rolls again, which saves starting a new turn
+        return target == Board.GOAL ? turns - 1 : turns;
+    }
+
+    // Expected turns after the current one, about to roll again with this many sixes so far
+    private double midTurn(int s0, int s1, int s2, int s3, int sixes) {
+        double here = expectedTurns(s0, s1, s2, s3);
+        if (sixes == 0) return here - 1;
+        // A third six is thrown again, so only faces 1-5 count after two
+        int faces = sixes >= Rules.MAX_CONSECUTIVE_SIXES ? 5 : 6;
+        double sum = 0;
+        for (int dice = 1; dice <= faces; dice++) {
+            double best = here; // no legal move ends the turn where it is
+            boolean moved = false;
+            for (int token = 0; token < Board.TOKENS; token++) {
+                int steps = token == 0 ? s0 : token == 1 ? s1 : token == 2 ? s2 : s3;
+                if (!Rules.canMove(steps, dice)) continue;
+                double value = moveValue(s0, s1, s2, s3, token, dice, sixes + 1);
+                if (!moved || value < best) best = value;
+                moved = true;
+            }
+            sum += best;
+        }
+        return sum / faces;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ludo.ludofun.engine;
+
+// Pauses in a turn at normal speed, in milliseconds. Scaled by GameClock.
+public final class TurnTimings {
+
+    // Dice
+    public static final long DICE_ROLL_MS = 1500;
+    public static final long DICE_RESULT_MS = 600;   // result on screen before the board reacts
+    public static final long NO_MOVE_PASS_MS = 500;  // extra pause when the roll cannot be used
+
+    // Tokens
+    public static final long TOKEN_STEP_MS = 350;    // per cell; one hop of the move animation
+    public static final long AUTO_MOVE_MS = 500;     // before moving the only possible token
+    public static final long NO_MOVABLE_TOKEN_MS = 1000;
+
+    // Computer player
+    public static final long AI_ROLL_DELAY_MS = 1000;
+    public static final long AI_MOVE_DELAY_MS = 800; // includes the time spent thinking
+
+    // Start-of-game countdown
+    public static final long COUNTDOWN_IN_MS = 800;
+    public static final long COUNTDOWN_HOLD_MS = 400;
+    public static final long COUNTDOWN_OUT_MS = 300;
+
+    private TurnTimings() {}
+}
@@ -0,0 +1,85 @@
+package com.ludo.ludofun.engine;
+
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * Clock whose time only moves when told to. Tasks run in time order (and in
+ * the order they were scheduled when due together) on the calling thread, so
+ * a test can play a whole timed game in a few milliseconds of real time.
+ */
+public final class VirtualGameClock implements GameClock {
+
+    private static final class Entry implements Comparable<Entry> {
+        final long time;
+        final long sequence;
+        final Runnable task;
+
+        Entry(long time, long sequence, Runnable task) {
+            this.time = time;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (time != other.time) return Long.compare(time, other.time);
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private GameSpeed speed = GameSpeed.NORMAL;
+    private long now;
+    private long sequence;
+    private long tasksRun;
+
+    @Override
+    public long now() { return now; }
+
+    @Override
+    public void schedule(Runnable task, long delayMillis) {
+        queue.add(new Entry(now + scale(Math.max(0, delayMillis)), sequence++, task));
+    }
+
+    @Override
+    public void cancel(Runnable task) {
+        for (Iterator<Entry> it = queue.iterator(); it.hasNext(); ) {
+            if (it.next().task == task) it.remove();
+        }
+    }
+
+    @Override
+    public void cancelAll() {
+        queue.clear();
+    }
+
+    @Override
+    public GameSpeed getSpeed() { return speed; }
+
+    @Override
+    public void setSpeed(GameSpeed speed) { this.speed = speed; }
+
+    // Runs everything due within the next millis, including tasks those schedule
+    public void advanceBy(long millis) {
+        long end = now + millis;
+        while (!queue.isEmpty() && queue.peek().time <= end) runNext();
+        now = end;
+    }
+
+    // Runs tasks until none are left or maxTasks have run; returns false if tasks remain
+    public boolean runUntilIdle(long maxTasks) {
+        for (long i = 0; i < maxTasks && !queue.isEmpty(); i++) runNext();
+        return queue.isEmpty();
+    }
+
+    public int getPendingCount() { return queue.size(); }
+    public long getTasksRun() { return tasksRun; }
+
+    private void runNext() {
+        Entry entry = queue.poll();
+        now = Math.max(now, entry.time);
+        tasksRun++;
+        entry.task.run();
+    }
+}
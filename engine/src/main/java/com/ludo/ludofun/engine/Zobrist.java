@@ -0,0 +1,79 @@
+package com.ludo.ludofun.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random keys for hashing positions. Token keys are combined by addition rather
+ * than XOR: tokens of one colour are interchangeable, so positions that only
+ * differ by which token stands where hash the same, and two tokens on the same
+ * step do not cancel out. The side to move, the six counter and the player
+ * count are XOR-ed on top.
+ *
+ * <p>Keys come from a fixed seed, so hashes are stable across runs.
+ */
+public final class Zobrist {
+
+    private static final int SIX_KEYS = Rules.MAX_CONSECUTIVE_SIXES + 2;
+
+    // Indexed by (player - 1) * STEP_VALUES + steps + 1; home is 0 so a fresh board hashes to 0
+    private static final long[] TOKEN = new long[Board.PLAYERS * Board.STEP_VALUES];
+    private static final long[] SEAT = new long[Board.PLAYERS + 1];
+    private static final long[] SIXES = new long[SIX_KEYS];
+    private static final long[] TOTAL = new long[Board.PLAYERS + 1];
+    private static final long[] PLAYER = new long[Board.PLAYERS + 1];
+    private static final long[] DICE = new long[7];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x4C55444FL);
+        for (int p = 0; p < Board.PLAYERS; p++) {
+            for (int steps = Board.HOME + 1; steps <= Board.GOAL; steps++) {
+                TOKEN[p * Board.STEP_VALUES + steps + 1] = random.nextLong();
+            }
+        }
+        for (int i = 1; i <= Board.PLAYERS; i++) {
+            SEAT[i] = random.nextLong();
+            TOTAL[i] = random.nextLong();
+            PLAYER[i] = random.nextLong();
+        }
+        for (int i = 1; i < SIX_KEYS; i++) SIXES[i] = random.nextLong();
+        for (int i = 1; i <= 6; i++) DICE[i] = random.nextLong();
+    }
+
+    private Zobrist() {}
+
+    public static long token(int player, int steps) {
+        return TOKEN[(player - 1) * Board.STEP_VALUES + steps + 1];
+    }
+
+    public static long seat(int seat) {
+        return SEAT[seat];
+    }
+
+    // Counts beyond the limit only occur while a roll is being thrown again
+    public static long sixes(int consecutiveSixes) {
+        return SIXES[Math.min(consecutiveSixes, SIX_KEYS - 1)];
+    }
+
+    public static long totalPlayers(int totalPlayers) {
+        return TOTAL[totalPlayers];
+    }
+
+    // Extra keys for searches: whose point of view a value is from, and the dice rolled
+    public static long player(int player) {
+        return PLAYER[player];
+    }
+
+    public static long dice(int dice) {
+        return DICE[dice];
+    }
+
+    // Hash from scratch; GameState keeps the same value up to date incrementally
+    public static long hash(GameState state) {
+        long tokens = 0;
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            for (int t = 0; t < Board.TOKENS; t++) tokens += token(p, state.getSteps(p, t));
+        }
+        return tokens ^ seat(state.getCurrentSeat()) ^ sixes(state.getConsecutiveSixes())
+                ^ totalPlayers(state.getTotalPlayers());
+    }
+}
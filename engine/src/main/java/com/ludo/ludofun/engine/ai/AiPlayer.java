@@ -0,0 +1,9 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.GameState;
+
+// Picks which token to move. movable holds the count candidate token indices
+// from Rules.movableTokens; the returned value must be one of them.
+public interface AiPlayer {
+    int chooseMove(GameState state, int player, int dice, int[] movable, int count);
+}
@@ -0,0 +1,25 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Tablebase;
+
+// Plays exact table moves once nobody else can affect the player's race,
+// and leaves every other position to the wrapped AI
+public class EndgameAi implements AiPlayer {
+
+    private final AiPlayer fallback;
+    private final Tablebase tablebase;
+
+    public EndgameAi(AiPlayer fallback, Tablebase tablebase) {
+        this.fallback = fallback;
+        this.tablebase = tablebase;
+    }
+
+    @Override
+    public int chooseMove(GameState state, int player, int dice, int[] movable, int count) {
+        if (count > 1 && Tablebase.isRace(state, player)) {
+            return tablebase.chooseMove(state, player, dice, movable, count);
+        }
+        return fallback.chooseMove(state, player, dice, movable, count);
+    }
+}
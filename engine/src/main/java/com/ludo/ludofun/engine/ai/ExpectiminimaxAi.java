@@ -0,0 +1,306 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+import com.ludo.ludofun.engine.Zobrist;
+
+/**
+ * Expectiminimax search over move and dice nodes with Star1 pruning at the dice
+ * nodes. Opponents are treated as one coalition minimising the mover's score
+ * (paranoid search), which keeps alpha-beta valid with more than two players.
+ *
+ * <p>The search deepens one move at a time until the wall-clock budget runs out
+ * or the thread is interrupted, and plays the best move of the last completed
+ * depth. All search buffers are allocated up front, so a decision allocates
+ * nothing. Not thread-safe: use one instance per thread.
+ *
+ * <p>Results are cached in a {@link TranspositionTable}, which also remembers the
+ * best move of each decision for move ordering. Several instances may share one
+ * table; keys include the searching player, since values are from its side.
+ */
+public class ExpectiminimaxAi implements AiPlayer {
+
+    public static final int DEFAULT_MAX_DEPTH = 16;
+    public static final int DEFAULT_TABLE_BITS = 16;
+
+    // Evaluations stay inside (-EVAL_SCALE, EVAL_SCALE); decided games score +-1
+    private static final double WIN = 1.0;
+    private static final double LOSS = -1.0;
+    private static final double EVAL_SCALE = 0.9;
+    private static final int CHECK_TIME_EVERY = 1024;
+
+    // Leaving home is worth about a roll's travel, the home lane is safe,
+    // and a token an opponent can reach next roll is discounted.
+    private static final double OUT_OF_HOME = 6;
+    private static final double HOME_LANE = 4;
+    private static final double THREATENED = 0.75;
+    private static final double MAX_PLAYER_SCORE = Board.TOKENS * (OUT_OF_HOME + Board.GOAL + HOME_LANE);
+
+    private final long budgetNanos;
+    private final int maxDepth;
+    private final TranspositionTable table;
+
+    // One entry per ply: the position before the roll, and after the roll
+    private final GameState[] before;
+    private final GameState[] rolled;
+    private final int[][] moves;
+
+    private int rootPlayer;
+    private long perspective; // XOR-ed into every table key
+    private long deadline;
+    private boolean aborted;
+    private long nodes;
+    private int completedDepth;
+
+    public ExpectiminimaxAi(long budgetMillis) {
+        this(budgetMillis, DEFAULT_MAX_DEPTH);
+    }
+
+    public ExpectiminimaxAi(long budgetMillis, int maxDepth) {
+        this(budgetMillis, maxDepth, new TranspositionTable(DEFAULT_TABLE_BITS));
+    }
+
+    public ExpectiminimaxAi(long budgetMillis, int maxDepth, TranspositionTable table) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxDepth = maxDepth;
+        this.table = table;
+        int plies = maxDepth + 2;
+        before = new GameState[plies];
+        rolled = new GameState[plies];
+        moves = new int[plies][Board.TOKENS];
+        for (int i = 0; i < plies; i++) {
+            before[i] = new GameState(4);
+            rolled[i] = new GameState(4);
+        }
+    }
+
+    @Override
+    public int chooseMove(GameState state, int player, int dice, int[] movable, int count) {
+        if (count == 1) return movable[0];
+
+        long start = System.nanoTime();
+        deadline = start + budgetNanos;
+        aborted = false;
+        nodes = 0;
+        completedDepth = 0;
+        rootPlayer = player;
+        perspective = Zobrist.player(player);
+        table.newSearch();
+
+        // The dice has already been accepted for this state, so the root is a move node
+        rolled[0].copyFrom(state);
+        int[] rootMoves = moves[0];
+        System.arraycopy(movable, 0, rootMoves, 0, count);
+
+        int best = rootMoves[0];
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            int bestAtDepth = -1;
+            double alpha = Double.NEGATIVE_INFINITY;
+            for (int m = 0; m < count; m++) {
+                int token = rootMoves[m];
+                if (isDuplicate(rolled[0], player, rootMoves, m)) continue;
+                double value = playMove(0, depth, player, token, dice, alpha, Double.POSITIVE_INFINITY);
+                if (aborted) break;
+                if (value > alpha) {
+                    alpha = value;
+                    bestAtDepth = token;
+                }
+            }
+            if (aborted) break;
+
+            best = bestAtDepth;
+            completedDepth = depth;
+            // Search the current best first next time round
+            for (int m = 0; m < count; m++) {
+                if (rootMoves[m] == best) {
+                    rootMoves[m] = rootMoves[0];
+                    rootMoves[0] = best;
+                    break;
+                }
+            }
+            if (alpha >= WIN) break; // forced win found
+        }
+        return best;
+    }
+
+    public int getCompletedDepth() { return completedDepth; }
+    public long getNodes() { return nodes; }
+    public TranspositionTable getTable() { return table; }
+
+    // Applies a move from rolled[ply] into before[ply + 1] and searches on from there
+    private double playMove(int ply, int depth, int player, int token, int dice, double alpha, double beta) {
+        GameState child = before[ply + 1];
+        child.copyFrom(rolled[ply]);
+        int flags = Rules.applyMove(child, player, token, dice);
+        // Whoever finishes first from here decides the search
+        if ((flags & Rules.MOVE_FINISHED_PLAYER) != 0) return player == rootPlayer ? WIN : LOSS;
+        if (!Rules.grantsExtraTurn(flags, dice)) {
+            Rules.nextPlayer(child);
+        }
+        return chance(ply + 1, depth - 1, alpha, beta);
+    }
+
+    // before[ply] is about to roll
+    private double chance(int ply, int depth, double alpha, double beta) {
+        GameState state = before[ply];
+        if (depth <= 0 || ply >= before.length - 1) return evaluate(state);
+        // Out of time, or the caller gave up on this decision
+        if (++nodes % CHECK_TIME_EVERY == 0
+                && (System.nanoTime() > deadline || Thread.currentThread().isInterrupted())) {
+            aborted = true;
+            return 0;
+        }
+
+        long key = state.getHash() ^ perspective;
+        long entry = table.probe(key);
+        if (entry != 0 && isCutoff(entry, depth, alpha, beta)) return TranspositionTable.value(entry);
+
+        double value = rollFaces(ply, depth, alpha, beta);
+        if (!aborted) table.store(key, depth, bound(value, alpha, beta), value, TranspositionTable.NO_MOVE);
+        return value;
+    }
+
+    // Star1: each face gets a window derived from the faces already searched
+    // and the best/worst case for the rest
+    private double rollFaces(int ply, int depth, double alpha, double beta) {
+        GameState state = before[ply];
+        // A third six would be rolled again, so only five faces remain
+        int faces = state.getConsecutiveSixes() >= Rules.MAX_CONSECUTIVE_SIXES ? 5 : 6;
+        double p = 1.0 / faces;
+        double sum = 0;
+        for (int face = 1; face <= faces; face++) {
+            double remaining = p * (faces - face);
+            double childAlpha = (alpha - sum - WIN * remaining) / p;
+            double childBeta = (beta - sum - LOSS * remaining) / p;
+
+            GameState roll = rolled[ply];
+            roll.copyFrom(state);
+            Rules.acceptRoll(roll, face);
+            double value = decide(ply, depth, face, Math.max(childAlpha, LOSS), Math.min(childBeta, WIN));
+            if (aborted) return 0;
+
+            sum += p * value;
+            if (value <= childAlpha) return sum + WIN * remaining;  // cannot reach alpha
+            if (value >= childBeta) return sum + LOSS * remaining;  // already above beta
+        }
+        return sum;
+    }
+
+    // rolled[ply] has rolled the dice; the side to move picks its best move
+    private double decide(int ply, int depth, int dice, double alpha, double beta) {
+        GameState state = rolled[ply];
+        int player = state.getCurrentPlayer();
+        int[] buffer = moves[ply];
+        int count = Rules.movableTokens(state, player, dice, buffer);
+
+        if (count == 0) {
+            GameState child = before[ply + 1];
+            child.copyFrom(state);
+            Rules.nextPlayer(child);
+            return chance(ply + 1, depth - 1, alpha, beta);
+        }
+
+        long key = state.getHash() ^ perspective ^ Zobrist.dice(dice);
+        long entry = table.probe(key);
+        if (entry != 0) {
+            if (isCutoff(entry, depth, alpha, beta)) return TranspositionTable.value(entry);
+            // Try the move that was best last time first
+            int hashMove = TranspositionTable.move(entry);
+            for (int m = 1; m < count; m++) {
+                if (state.getSteps(player, buffer[m]) == hashMove) {
+                    int token = buffer[m];
+                    buffer[m] = buffer[0];
+                    buffer[0] = token;
+                    break;
+                }
+            }
+        }
+
+        double alphaIn = alpha;
+        double betaIn = beta;
+        boolean maximizing = player == rootPlayer;
+        double best = maximizing ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int bestToken = buffer[0];
+        for (int m = 0; m < count; m++) {
+            if (isDuplicate(state, player, buffer, m)) continue;
+            double value = playMove(ply, depth, player, buffer[m], dice, alpha, beta);
+            if (aborted) return 0;
+            if (maximizing) {
+                if (value > best) {
+                    best = value;
+                    bestToken = buffer[m];
+                }
+                if (best > alpha) alpha = best;
+            } else {
+                if (value < best) {
+                    best = value;
+                    bestToken = buffer[m];
+                }
+                if (best < beta) beta = best;
+            }
+            if (alpha >= beta) break;
+        }
+        table.store(key, depth, bound(best, alphaIn, betaIn), best, state.getSteps(player, bestToken));
+        return best;
+    }
+
+    private static boolean isCutoff(long entry, int depth, double alpha, double beta) {
+        if (TranspositionTable.depth(entry) < depth) return false;
+        double value = TranspositionTable.value(entry);
+        switch (TranspositionTable.bound(entry)) {
+            case TranspositionTable.EXACT: return true;
+            case TranspositionTable.LOWER: return value >= beta;
+            case TranspositionTable.UPPER: return value <= alpha;
+            default: return false;
+        }
+    }
+
+    // Fail-soft result relative to the window it was searched with
+    private static int bound(double value, double alpha, double beta) {
+        if (value <= alpha) return TranspositionTable.UPPER;
+        if (value >= beta) return TranspositionTable.LOWER;
+        return TranspositionTable.EXACT;
+    }
+
+    // Tokens on the same step are interchangeable; only the first needs searching
+    private static boolean isDuplicate(GameState state, int player, int[] buffer, int m) {
+        int steps = state.getSteps(player, buffer[m]);
+        for (int i = 0; i < m; i++) {
+            if (state.getSteps(player, buffer[i]) == steps) return true;
+        }
+        return false;
+    }
+
+    // Progress of the mover against the strongest opponent, scaled into (-0.9, 0.9)
+    private double evaluate(GameState state) {
+        double own = 0;
+        double strongest = 0;
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            if (!state.isPlayerActive(p) || (p != rootPlayer && state.isFinished(p))) continue;
+            double score = playerScore(state, p);
+            if (p == rootPlayer) {
+                own = score;
+            } else if (score > strongest) {
+                strongest = score;
+            }
+        }
+        return EVAL_SCALE * (own - strongest) / MAX_PLAYER_SCORE;
+    }
+
+    private static double playerScore(GameState state, int player) {
+        double score = 0;
+        for (int t = 0; t < Board.TOKENS; t++) {
+            int steps = state.getSteps(player, t);
+            if (steps == Board.HOME) continue;
+            double value = OUT_OF_HOME + steps;
+            if (steps > Board.LAST_MAIN_STEP) {
+                value += HOME_LANE;
+            } else if (Rules.isThreatened(state, player, Board.cellOf(player, steps))) {
+                value *= THREATENED;
+            }
+            score += value;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+
+// One-ply priority rules the game has always used for the computer player
+public class HeuristicAi implements AiPlayer {
+
+    @Override
+    public int chooseMove(GameState state, int player, int dice, int[] movable, int count) {
+        int bestIndex = -1;
+        int maxPriority = -1;
+
+        for (int m = 0; m < count; m++) {
+            int idx = movable[m];
+            int priority = 1; // Default priority
+            int currentSteps = state.getSteps(player, idx);
+            int targetSteps = Rules.targetSteps(currentSteps, dice);
+
+            // 1. Check if it can KILL an opponent (Highest priority)
+            if (targetSteps <= 50 && Rules.capturable(state, player, Board.cellOf(player, targetSteps)) != 0) {
+                priority = 100; // Found a kill!
+            }
+
+            // 2. Check if it can reach the GOAL (Second highest)
+            if (targetSteps == 56) {
+                priority = Math.max(priority, 90);
+            }
+
+            // 3. Move token OUT of home base (Third highest)
+            if (currentSteps == -1 && dice == 6) {
+                priority = Math.max(priority, 80);
+            }
+
+            // 4. Move token into HOME PATH (Fourth highest)
+            if (currentSteps <= 50 && targetSteps > 50) {
+                priority = Math.max(priority, 70);
+            }
+
+            // 5. Move a token that is IN DANGER (if an opponent is behind it)
+            if (currentSteps != -1 && currentSteps <= 50
+                    && Rules.isThreatened(state, player, Board.cellOf(player, currentSteps))) {
+                priority = Math.max(priority, 60);
+            }
+
+            // 6. Prefer tokens that are further ahead
+            priority = Math.max(priority, currentSteps + 10);
+
+            if (priority > maxPriority) {
+                maxPriority = priority;
+                bestIndex = idx;
+            }
+        }
+        return bestIndex;
+    }
+}
@@ -0,0 +1,289 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Monte Carlo Tree Search shared by a fixed pool of worker threads.
+ *
+ * <p>Every node is the position after a move. Its children are indexed by
+ * (dice face, token), so the path from the root fixes the position exactly and
+ * workers only keep a scratch copy of it. Statistics are updated with atomic
+ * field updaters and children are published with compare-and-set, so workers
+ * never lock. A visit is counted on the way down (virtual loss), which steers
+ * concurrent workers apart; wins are added on the way back up.
+ *
+ * <p>A playout ends when the first player finishes. Each node counts the wins
+ * of the player who made the move into it, so every player picks its own best
+ * move. With one thread the search runs on the caller; otherwise call
+ * {@link #shutdown()} when the AI is no longer needed.
+ */
+public class MctsAi implements AiPlayer {
+
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_TREE_DEPTH = 256;
+    private static final int MAX_PLAYOUT_MOVES = 4000;
+    private static final int DEFAULT_MAX_NODES = 1 << 20;
+    private static final int SLOTS = 6 * Board.TOKENS;
+
+    private final long budgetNanos;
+    private final int threads;
+    private final int maxNodes;
+    private final ExecutorService pool; // null when searching on the caller
+    private final Worker[] workers;
+    private final List<Future<Long>> futures;
+    private final AtomicInteger nodeCount = new AtomicInteger();
+
+    // Set for the duration of one chooseMove call
+    private volatile Node root;
+    private volatile long deadline;
+    private final GameState rootState = new GameState(4);
+    private int rootDice;
+
+    private long lastPlayouts;
+    private long lastElapsedNanos;
+
+    public MctsAi(long budgetMillis, int threads) {
+        this(budgetMillis, threads, DEFAULT_MAX_NODES, System.nanoTime());
+    }
+
+    public MctsAi(long budgetMillis, int threads, int maxNodes, long seed) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.threads = threads;
+        this.maxNodes = maxNodes;
+        this.pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mcts-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        SplittableRandom seeds = new SplittableRandom(seed);
+        workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) workers[i] = new Worker(seeds.split());
+        futures = new ArrayList<>(threads);
+    }
+
+    @Override
+    public int chooseMove(GameState state, int player, int dice, int[] movable, int count) {
+        if (count == 1) return movable[0];
+
+        long start = System.nanoTime();
+        rootState.copyFrom(state);
+        rootDice = dice;
+        nodeCount.set(1);
+        root = new Node(0);
+        deadline = start + budgetNanos;
+
+        lastPlayouts = pool == null ? workers[0].call() : runWorkers();
+        lastElapsedNanos = System.nanoTime() - start;
+
+        // Most visited move is the most robust choice
+        int best = movable[0];
+        long bestVisits = -1;
+        int base = (dice - 1) * Board.TOKENS;
+        for (int m = 0; m < count; m++) {
+            Node child = root.children.get(base + movable[m]);
+            long visits = child == null ? 0 : child.visits;
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                best = movable[m];
+            }
+        }
+        root = null;
+        return best;
+    }
+
+    private long runWorkers() {
+        futures.clear();
+        for (Worker worker : workers) futures.add(pool.submit(worker));
+        long playouts = 0;
+        try {
+            for (Future<Long> future : futures) playouts += future.get();
+        } catch (InterruptedException e) {
+            // Workers see the interrupt or the deadline and stop on their own
+            for (Future<Long> future : futures) future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return playouts;
+    }
+
+    public long getLastPlayouts() { return lastPlayouts; }
+
+    public double getLastPlayoutsPerSecond() {
+        return lastElapsedNanos == 0 ? 0 : lastPlayouts * 1e9 / lastElapsedNanos;
+    }
+
+    public int getThreads() { return threads; }
+
+    public void shutdown() {
+        if (pool != null) pool.shutdownNow();
+    }
+
+    private static final class Node {
+        private static final AtomicLongFieldUpdater<Node> VISITS =
+                AtomicLongFieldUpdater.newUpdater(Node.class, "visits");
+        private static final AtomicLongFieldUpdater<Node> WINS =
+                AtomicLongFieldUpdater.newUpdater(Node.class, "wins");
+
+        final int mover; // player whose move led here
+        final AtomicReferenceArray<Node> children = new AtomicReferenceArray<>(SLOTS);
+        volatile long visits;
+        volatile long wins;
+
+        Node(int mover) {
+            this.mover = mover;
+        }
+    }
+
+    // Per-thread scratch state; one iteration = select, expand, play out, back up
+    private final class Worker implements Callable<Long> {
+        private final SplittableRandom random;
+        private final GameState scratch = new GameState(4);
+        private final int[] movable = new int[Board.TOKENS];
+        private final Node[] path = new Node[MAX_TREE_DEPTH + 1];
+
+        Worker(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public Long call() {
+            long playouts = 0;
+            Node root = MctsAi.this.root;
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                iterate(root);
+                playouts++;
+            }
+            return playouts;
+        }
+
+        private void iterate(Node root) {
+            scratch.copyFrom(rootState);
+            Node.VISITS.incrementAndGet(root);
+            Node node = root;
+            int depth = 0;
+            int winner = 0;
+
+            while (true) {
+                int player = scratch.getCurrentPlayer();
+                int dice = depth == 0 ? rootDice : roll(scratch);
+                int count = Rules.movableTokens(scratch, player, dice, movable);
+                int base = (dice - 1) * Board.TOKENS;
+
+                int token = count == 0 ? -1 : select(node, player, base, count);
+                int slot = base + Math.max(token, 0);
+                Node child = node.children.get(slot);
+                boolean expanded = false;
+                if (child == null && nodeCount.get() < maxNodes) {
+                    Node created = new Node(player);
+                    if (node.children.compareAndSet(slot, null, created)) {
+                        nodeCount.incrementAndGet();
+                        expanded = true;
+                    }
+                    child = node.children.get(slot);
+                }
+
+                if (child != null) {
+                    Node.VISITS.incrementAndGet(child); // virtual loss until the result is in
+                    path[++depth] = child;
+                }
+
+                if (token == -1) {
+                    Rules.nextPlayer(scratch);
+                } else {
+                    int flags = Rules.applyMove(scratch, player, token, dice);
+                    if ((flags & Rules.MOVE_FINISHED_PLAYER) != 0) {
+                        winner = player;
+                        break;
+                    }
+                    if (!Rules.grantsExtraTurn(flags, dice)) Rules.nextPlayer(scratch);
+                }
+
+                if (child == null || expanded || depth >= MAX_TREE_DEPTH) break;
+                node = child;
+            }
+
+            if (winner == 0) winner = playout();
+            for (int i = 1; i <= depth; i++) {
+                if (path[i].mover == winner) Node.WINS.incrementAndGet(path[i]);
+                path[i] = null;
+            }
+        }
+
+        // UCT over the children for this dice face; unvisited moves are tried first
+        private int select(Node node, int player, int base, int count) {
+            double logParent = Math.log(Math.max(1, node.visits));
+            int best = movable[0];
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int m = 0; m < count; m++) {
+                int token = movable[m];
+                if (isDuplicate(player, m)) continue;
+                Node child = node.children.get(base + token);
+                long visits = child == null ? 0 : child.visits;
+                if (visits == 0) return token;
+                double score = (double) child.wins / visits + EXPLORATION * Math.sqrt(logParent / visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = token;
+                }
+            }
+            return best;
+        }
+
+        private boolean isDuplicate(int player, int m) {
+            int steps = scratch.getSteps(player, movable[m]);
+            for (int i = 0; i < m; i++) {
+                if (scratch.getSteps(player, movable[i]) == steps) return true;
+            }
+            return false;
+        }
+
+        // Random play, except that a capture is always taken. Returns the first finisher.
+        private int playout() {
+            for (int moves = 0; moves < MAX_PLAYOUT_MOVES; moves++) {
+                int player = scratch.getCurrentPlayer();
+                int dice = roll(scratch);
+                int count = Rules.movableTokens(scratch, player, dice, movable);
+                if (count == 0) {
+                    Rules.nextPlayer(scratch);
+                    continue;
+                }
+                int token = movable[random.nextInt(count)];
+                for (int m = 0; m < count; m++) {
+                    int target = Rules.targetSteps(scratch.getSteps(player, movable[m]), dice);
+                    if (target <= Board.LAST_MAIN_STEP
+                            && Rules.capturable(scratch, player, Board.cellOf(player, target)) != 0) {
+                        token = movable[m];
+                        break;
+                    }
+                }
+                int flags = Rules.applyMove(scratch, player, token, dice);
+                if ((flags & Rules.MOVE_FINISHED_PLAYER) != 0) return player;
+                if (!Rules.grantsExtraTurn(flags, dice)) Rules.nextPlayer(scratch);
+            }
+            return 0;
+        }
+
+        private int roll(GameState state) {
+            int dice;
+            do {
+                dice = random.nextInt(6) + 1;
+            } while (!Rules.acceptRoll(state, dice));
+            return dice;
+        }
+    }
+}
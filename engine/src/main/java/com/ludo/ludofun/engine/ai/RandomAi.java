@@ -0,0 +1,20 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.GameState;
+
+import java.util.SplittableRandom;
+
+// Uniformly random legal move, the baseline other strategies are measured against
+public class RandomAi implements AiPlayer {
+
+    private final SplittableRandom random;
+
+    public RandomAi(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseMove(GameState state, int player, int dice, int[] movable, int count) {
+        return movable[random.nextInt(count)];
+    }
+}
@@ -0,0 +1,145 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.Board;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size table of search results, kept in two parallel long arrays so it
+ * never allocates after construction.
+ *
+ * <p>Each entry is a packed data word (value, depth, bound, best move, age) and
+ * the position key XOR-ed with that word. A probe only accepts an entry whose
+ * key XOR data gives back the probed key, so entries torn by a concurrent write
+ * are ignored and several searches can share one table without locking.
+ *
+ * <p>Entries live in buckets of two. A store overwrites the same position if it
+ * is already there, otherwise the entry left over from an older search, otherwise
+ * the shallower one. The counters are plain fields and only approximate when the
+ * table is shared between threads.
+ */
+public final class TranspositionTable {
+
+    public static final int EXACT = 0;
+    public static final int LOWER = 1; // value is at least this
+    public static final int UPPER = 2; // value is at most this
+
+    public static final int NO_MOVE = Board.HOME - 1;
+
+    // Data word: value (float bits) | depth << 32 | bound << 40 | move + 2 << 42 | age << 49 | VALID
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+    private static final int AGE_SHIFT = 49;
+    private static final long VALID = 1L << 63;
+    private static final int AGE_MASK = 0xFF;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private int age;
+
+    private long probes;
+    private long hits;
+    private long stores;
+    private long replacements;
+
+    // Holds 2^sizeBits entries, 16 bytes each
+    public TranspositionTable(int sizeBits) {
+        int size = 1 << sizeBits;
+        keys = new long[size];
+        data = new long[size];
+        mask = (size - 1) & ~1;
+    }
+
+    // Call once per decision so entries from earlier searches are replaced first
+    public void newSearch() {
+        age = (age + 1) & AGE_MASK;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, 0L);
+        probes = hits = stores = replacements = 0;
+    }
+
+    // Returns the entry's data word, or 0 when the position is not in the table
+    public long probe(long key) {
+        probes++;
+        int i = (int) key & mask;
+        for (int j = i; j < i + 2; j++) {
+            long d = data[j];
+            if (d != 0 && (keys[j] ^ d) == key) {
+                hits++;
+                return d;
+            }
+        }
+        return 0;
+    }
+
+    public void store(long key, int depth, int bound, double value, int moveSteps) {
+        long d = Float.floatToRawIntBits((float) value) & 0xFFFFFFFFL
+                | (long) Math.min(depth, 0xFF) << DEPTH_SHIFT
+                | (long) bound << BOUND_SHIFT
+                | (long) (moveSteps - NO_MOVE) << MOVE_SHIFT
+                | (long) age << AGE_SHIFT
+                | VALID;
+
+        int i = (int) key & mask;
+        int target = -1;
+        for (int j = i; j < i + 2; j++) {
+            if (data[j] != 0 && (keys[j] ^ data[j]) == key) {
+                target = j;
+                break;
+            }
+        }
+        if (target < 0) {
+            target = replaceScore(data[i]) <= replaceScore(data[i + 1]) ? i : i + 1;
+            if (data[target] != 0) replacements++;
+        }
+        // Data first, then key: a reader in between sees a mismatch and misses
+        data[target] = d;
+        keys[target] = key ^ d;
+        stores++;
+    }
+
+    // Lower is replaced first: empty, then stale, then shallow
+    private int replaceScore(long d) {
+        if (d == 0) return -1;
+        int score = depth(d);
+        if (((int) (d >>> AGE_SHIFT) & AGE_MASK) == age) score += 0x100;
+        return score;
+    }
+
+    // ===== ENTRY FIELDS =====
+    public static double value(long data) {
+        return Float.intBitsToFloat((int) data);
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    // Steps of the token that was the best move, or NO_MOVE
+    public static int move(long data) {
+        return ((int) (data >>> MOVE_SHIFT) & 0x7F) + NO_MOVE;
+    }
+
+    // ===== STATS =====
+    public long getProbes() { return probes; }
+    public long getHits() { return hits; }
+    public long getStores() { return stores; }
+    public long getReplacements() { return replacements; }
+
+    public double getHitRate() {
+        return probes == 0 ? 0 : (double) hits / probes;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+}
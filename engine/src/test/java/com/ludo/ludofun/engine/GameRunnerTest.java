@@ -0,0 +1,36 @@
+package com.ludo.ludofun.engine;
+
+import com.ludo.ludofun.engine.ai.AiPlayer;
+import com.ludo.ludofun.engine.ai.HeuristicAi;
+import com.ludo.ludofun.engine.ai.RandomAi;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class GameRunnerTest {
+
+    @Test
+    public void gamesRunToCompletionForEverySeatCount() {
+        SplittableRandom random = new SplittableRandom(42);
+        Dice dice = () -> random.nextInt(6) + 1;
+        for (int players = 2; players <= 4; players++) {
+            GameState state = new GameState(players);
+            GameRunner runner = new GameRunner(state);
+            AiPlayer[] seats = new AiPlayer[players];
+            for (int i = 0; i < players; i++) {
+                seats[i] = (i % 2 == 0) ? new HeuristicAi() : new RandomAi(random.split());
+            }
+            for (int game = 0; game < 200; game++) {
+                state.reset(players);
+                int winner = runner.play(seats, dice);
+                assertTrue(winner != 0);
+                assertTrue(state.isPlayerActive(winner));
+                assertEquals(winner, state.getWinner(0));
+                assertEquals(Seats.activeCount(players) - 1, state.getWinnerCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ludo.ludofun.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameSnapshotTest {
+
+    private static GameState midGame() {
+        GameState state = new GameState(4);
+        state.setTokens(1, new int[] {-1, 0, 51, 56});
+        state.setTokens(3, new int[] {12, 12, -1, 55});
+        state.addWinner(2);
+        state.setCurrentSeat(3);
+        state.setConsecutiveSixes(1);
+        return state;
+    }
+
+    @Test
+    public void roundTripsAPosition() {
+        GameState state = midGame();
+        byte[] data = new byte[GameSnapshot.SIZE];
+        GameSnapshot.write(state, GameSnapshot.FLAG_VS_COMPUTER, data);
+
+        GameState loaded = new GameState(2);
+        assertEquals(GameSnapshot.FLAG_VS_COMPUTER, GameSnapshot.read(data, loaded));
+        assertEquals(state.getHash(), loaded.getHash());
+        assertEquals(4, loaded.getTotalPlayers());
+        assertEquals(3, loaded.getCurrentSeat());
+        assertEquals(1, loaded.getWinnerCount());
+        assertEquals(2, loaded.getWinner(0));
+        assertEquals(56, loaded.getSteps(1, 3));
+        assertEquals(1 << GameState.slot(3, 0) | 1 << GameState.slot(3, 1), loaded.getOccupants(Board.cellOf(3, 12)));
+    }
+
+    @Test
+    public void rejectsDamagedOrForeignData() {
+        byte[] data = new byte[GameSnapshot.SIZE];
+        GameSnapshot.write(midGame(), 0, data);
+
+        byte[] flipped = data.clone();
+        flipped[20] ^= 1;
+        byte[] newer = data.clone();
+        newer[4] = GameSnapshot.VERSION + 1;
+        byte[][] bad = {flipped, newer, new byte[GameSnapshot.SIZE], new byte[GameSnapshot.SIZE - 1]};
+
+        for (byte[] snapshot : bad) {
+            GameState state = new GameState(4);
+            try {
+                GameSnapshot.read(snapshot, state);
+                fail("accepted a bad snapshot");
+            } catch (IllegalArgumentException expected) {
+                assertEquals(new GameState(4).getHash(), state.getHash());
+            }
+        }
+    }
+
+    @Test
+    public void rejectsIllegalPositionsWithAValidChecksum() {
+        GameState state = midGame();
+        state.setCurrentSeat(5);
+        byte[] data = new byte[GameSnapshot.SIZE];
+        GameSnapshot.write(state, 0, data);
+        try {
+            GameSnapshot.read(data, new GameState(4));
+            fail("accepted seat 5 of 4");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+}
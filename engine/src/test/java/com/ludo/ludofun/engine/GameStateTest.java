@@ -0,0 +1,110 @@
+package com.ludo.ludofun.engine;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class GameStateTest {
+
+    @Test
+    public void packedStepsRoundTripForEverySlot() {
+        GameState state = new GameState(4);
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            for (int t = 0; t < Board.TOKENS; t++) {
+                for (int steps = Board.HOME; steps <= Board.GOAL; steps++) {
+                    state.setSteps(p, t, steps);
+                    assertEquals(steps, state.getSteps(p, t));
+                }
+                state.setSteps(p, t, p * 10 + t);
+            }
+        }
+        for (int p = 1; p <= Board.PLAYERS; p++) {
+            for (int t = 0; t < Board.TOKENS; t++) {
+                assertEquals(p * 10 + t, state.getSteps(p, t));
+            }
+        }
+    }
+
+    @Test
+    public void occupancyFollowsTokens() {
+        GameState state = new GameState(4);
+        state.setSteps(1, 2, 7);
+        int cell = Board.cellOf(1, 7);
+        assertEquals(1 << GameState.slot(1, 2), state.getOccupants(cell));
+
+        state.setSteps(1, 2, 53);
+        assertEquals(0, state.getOccupants(cell));
+        assertEquals(1 << GameState.slot(1, 2), state.getOccupants(Board.cellOf(1, 53)));
+
+        state.setSteps(1, 2, Board.HOME);
+        for (int c = 0; c < Board.CELLS; c++) assertEquals(0, state.getOccupants(c));
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        GameState state = new GameState(4);
+        state.setSteps(3, 1, 20);
+        state.addWinner(2);
+        state.setCurrentSeat(3);
+
+        GameState copy = new GameState(2);
+        copy.copyFrom(state);
+        state.setSteps(3, 1, 21);
+
+        assertEquals(20, copy.getSteps(3, 1));
+        assertEquals(1 << GameState.slot(3, 1), copy.getOccupants(Board.cellOf(3, 20)));
+        assertEquals(0, copy.getOccupants(Board.cellOf(3, 21)));
+        assertEquals(4, copy.getTotalPlayers());
+        assertEquals(3, copy.getCurrentSeat());
+        assertTrue(copy.isFinished(2));
+    }
+
+    @Test
+    public void threatOnlyFromOpponentsStillOnTheTrack() {
+        GameState state = new GameState(4);
+        state.setSteps(1, 0, 10);
+        int cell = Board.cellOf(1, 10);
+        assertFalse(Rules.isThreatened(state, 1, cell));
+
+        // Green token three cells behind
+        state.setSteps(2, 0, cell - 3 - Board.startIndex(2) + Board.MAIN_PATH_CELLS);
+        assertTrue(Rules.isThreatened(state, 1, cell));
+    }
+
+    @Test
+    public void incrementalHashMatchesFullHash() {
+        GameState state = new GameState(4);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] movable = new int[Board.TOKENS];
+        for (int i = 0; i < 500 && !state.isFinished(state.getCurrentPlayer()); i++) {
+            int player = state.getCurrentPlayer();
+            int dice = random.nextInt(6) + 1;
+            if (!Rules.acceptRoll(state, dice)) continue;
+            int count = Rules.movableTokens(state, player, dice, movable);
+            int flags = count == 0 ? 0 : Rules.applyMove(state, player, movable[random.nextInt(count)], dice);
+            if (count == 0 || !Rules.grantsExtraTurn(flags, dice)) Rules.nextPlayer(state);
+            assertEquals(Zobrist.hash(state), state.getHash());
+        }
+    }
+
+    @Test
+    public void hashIgnoresWhichTokenIsWhere() {
+        GameState a = new GameState(4);
+        a.setSteps(2, 0, 12);
+        a.setSteps(2, 1, 12);
+        a.setSteps(2, 3, 40);
+        GameState b = new GameState(4);
+        b.setSteps(2, 3, 12);
+        b.setSteps(2, 2, 40);
+        b.setSteps(2, 0, 12);
+        assertEquals(a.getHash(), b.getHash());
+
+        b.setConsecutiveSixes(1);
+        assertNotEquals(a.getHash(), b.getHash());
+        b.setConsecutiveSixes(0);
+        b.setCurrentSeat(2);
+        assertNotEquals(a.getHash(), b.getHash());
+    }
+}
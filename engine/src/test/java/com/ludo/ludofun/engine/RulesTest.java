@@ -0,0 +1,92 @@
+package com.ludo.ludofun.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RulesTest {
+
+    @Test
+    public void stackedTokensMoveWithoutAChoice() {
+        GameState state = new GameState(4);
+        int[] movable = new int[Board.TOKENS];
+        assertTrue(Rules.isForcedMove(state, 1, movable, Rules.movableTokens(state, 1, 6, movable)));
+
+        state.setTokens(1, new int[] {5, 5, -1, -1});
+        assertTrue(Rules.isForcedMove(state, 1, movable, Rules.movableTokens(state, 1, 3, movable)));
+        assertFalse(Rules.isForcedMove(state, 1, movable, Rules.movableTokens(state, 1, 6, movable)));
+    }
+
+    @Test
+    public void tokenLeavesHomeOnlyOnSix() {
+        GameState state = new GameState(4);
+        assertFalse(Rules.hasMovableToken(state, 1, 5));
+        assertTrue(Rules.hasMovableToken(state, 1, 6));
+
+        int flags = Rules.applyMove(state, 1, 0, 6);
+        assertEquals(0, flags);
+        assertEquals(0, state.getSteps(1, 0));
+        assertEquals(Board.startIndex(1), Board.cellOf(1, 0));
+    }
+
+    @Test
+    public void landingOnOpponentSendsItHome() {
+        GameState state = new GameState(4);
+        // Green token two cells ahead of Red's token, off any safe spot
+        state.setSteps(1, 0, 2);
+        int cell = Board.cellOf(1, 5);
+        state.setSteps(2, 1, cell - Board.startIndex(2) + Board.MAIN_PATH_CELLS);
+        assertEquals(cell, Board.cellOf(2, state.getSteps(2, 1)));
+
+        int flags = Rules.applyMove(state, 1, 0, 3);
+        assertTrue((flags & Rules.MOVE_KILLED) != 0);
+        assertEquals(Board.HOME, state.getSteps(2, 1));
+        assertTrue(Rules.grantsExtraTurn(flags, 3));
+    }
+
+    @Test
+    public void safeSpotProtectsOpponent() {
+        GameState state = new GameState(4);
+        state.setSteps(1, 0, 5);
+        // Green sits on its own start, which is a safe spot
+        state.setSteps(2, 0, 0);
+        int stepsToGreenStart = Board.startIndex(2) - Board.startIndex(1);
+
+        int flags = Rules.applyMove(state, 1, 0, stepsToGreenStart - 5);
+        assertEquals(0, flags & Rules.MOVE_KILLED);
+        assertEquals(0, state.getSteps(2, 0));
+    }
+
+    @Test
+    public void lastTokenInHomeLaneCannotUseSix() {
+        GameState state = new GameState(4);
+        state.setTokens(1, new int[]{56, 56, 56, 52});
+        assertFalse(Rules.hasMovableToken(state, 1, 6));
+        assertTrue(Rules.hasMovableToken(state, 1, 4));
+
+        int flags = Rules.applyMove(state, 1, 3, 4);
+        assertTrue((flags & Rules.MOVE_REACHED_GOAL) != 0);
+        assertTrue((flags & Rules.MOVE_FINISHED_PLAYER) != 0);
+        assertTrue(state.isFinished(1));
+    }
+
+    @Test
+    public void thirdSixIsRolledAgain() {
+        GameState state = new GameState(4);
+        assertTrue(Rules.acceptRoll(state, 6));
+        assertTrue(Rules.acceptRoll(state, 6));
+        assertFalse(Rules.acceptRoll(state, 6));
+        assertTrue(Rules.acceptRoll(state, 3));
+        assertEquals(0, state.getConsecutiveSixes());
+    }
+
+    @Test
+    public void nextPlayerSkipsFinishedSeats() {
+        GameState state = new GameState(4);
+        state.setCurrentSeat(1);
+        state.addWinner(Seats.ludoPlayer(4, 2));
+        Rules.nextPlayer(state);
+        assertEquals(3, state.getCurrentSeat());
+        assertEquals(4, state.getCurrentPlayer());
+    }
+}
@@ -0,0 +1,46 @@
+package com.ludo.ludofun.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SaveCodecTest {
+
+    @Test
+    public void writesTheSameTextAsJsonArray() {
+        GameState state = new GameState(4);
+        state.setTokens(2, new int[] {-1, 0, 51, 56});
+        state.addWinner(3);
+        state.addWinner(1);
+
+        assertEquals("[-1,0,51,56]", SaveCodec.encodeTokens(state, 2));
+        assertEquals(SaveCodec.EMPTY_TOKENS, SaveCodec.encodeTokens(state, 4));
+        assertEquals("[3,1]", SaveCodec.encodeWinners(state));
+        assertEquals(SaveCodec.NO_WINNERS, SaveCodec.encodeWinners(new GameState(2)));
+    }
+
+    @Test
+    public void roundTripsAndToleratesSpaces() {
+        GameState state = new GameState(4);
+        SaveCodec.decodeTokens(" [ 12, -1 ,56,3 ] ", state, 4);
+        SaveCodec.decodeWinners("[2, 4]", state);
+
+        assertEquals("[12,-1,56,3]", SaveCodec.encodeTokens(state, 4));
+        assertEquals(1 << GameState.slot(4, 0), state.getOccupants(Board.cellOf(4, 12)));
+        assertEquals(2, state.getWinnerCount());
+        assertEquals(4, state.getWinner(1));
+    }
+
+    @Test
+    public void rejectsMalformedText() {
+        String[] bad = {"", "[]", "[1,2,3]", "[1,2,3,4,5]", "[1,2,3,57]", "[1,,2,3]", "[1,2,3,4", "{1,2,3,4}", "[1,2,3,4]x"};
+        for (String text : bad) {
+            try {
+                SaveCodec.decodeTokens(text, new GameState(4), 1);
+                fail("accepted " + text);
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ludo.ludofun.engine;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+public class TablebaseTest {
+
+    @Test
+    public void indexIsABijectionOverTokenMultisets() {
+        BitSet seen = new BitSet(Tablebase.POSITIONS);
+        for (int a = Board.HOME; a <= Board.GOAL; a++) {
+            for (int b = a; b <= Board.GOAL; b++) {
+                for (int c = b; c <= Board.GOAL; c++) {
+                    for (int d = c; d <= Board.GOAL; d++) {
+                        int index = Tablebase.index(a, b, c, d);
+                        assertTrue(index >= 0 && index < Tablebase.POSITIONS);
+                        assertFalse(seen.get(index));
+                        seen.set(index);
+                        assertEquals(index, Tablebase.index(d, b, a, c));
+                    }
+                }
+            }
+        }
+        assertEquals(Tablebase.POSITIONS, seen.cardinality());
+    }
+
+    @Test
+    public void raceOnlyWhenNobodyCanInteract() {
+        GameState state = new GameState(2);
+        state.setSteps(3, 0, 52);
+        state.setSteps(3, 1, 20);
+        // Green still has tokens at home that can come out and capture
+        assertFalse(Tablebase.isRace(state, 3));
+
+        state.setSteps(3, 1, Board.GOAL);
+        for (int t = 2; t < Board.TOKENS; t++) state.setSteps(3, t, Board.GOAL);
+        assertTrue(Tablebase.isRace(state, 3));
+
+        state.setSteps(3, 1, 20);
+        for (int t = 0; t < Board.TOKENS; t++) state.setSteps(2, t, 51 + t);
+        assertTrue(Tablebase.isRace(state, 3));
+        assertTrue(Tablebase.isRace(state, 2)); // its own tokens are all in the lane
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsForeignData() {
+        Tablebase.from(ByteBuffer.allocate(Tablebase.HEADER_BYTES + 2 * Tablebase.POSITIONS));
+    }
+}
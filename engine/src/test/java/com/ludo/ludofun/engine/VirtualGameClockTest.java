@@ -0,0 +1,93 @@
+package com.ludo.ludofun.engine;
+
+import com.ludo.ludofun.engine.ai.AiPlayer;
+import com.ludo.ludofun.engine.ai.HeuristicAi;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class VirtualGameClockTest {
+
+    @Test
+    public void runsTasksInTimeOrderAndHonoursCancel() {
+        VirtualGameClock clock = new VirtualGameClock();
+        List<String> log = new ArrayList<>();
+        Runnable cancelled = () -> log.add("cancelled");
+        clock.schedule(() -> log.add("b"), 200);
+        clock.schedule(() -> log.add("a"), 100);
+        clock.schedule(() -> log.add("c"), 200);
+        clock.schedule(cancelled, 150);
+        clock.cancel(cancelled);
+
+        clock.advanceBy(150);
+        assertEquals(List.of("a"), log);
+        assertEquals(150, clock.now());
+
+        clock.advanceBy(50);
+        assertEquals(List.of("a", "b", "c"), log);
+        assertEquals(0, clock.getPendingCount());
+    }
+
+    @Test
+    public void cancelAllDropsEveryPendingTask() {
+        VirtualGameClock clock = new VirtualGameClock();
+        List<String> log = new ArrayList<>();
+        clock.schedule(() -> log.add("a"), 0);
+        clock.schedule(() -> log.add("b"), 500);
+        clock.cancelAll();
+
+        assertEquals(0, clock.getPendingCount());
+        assertTrue(clock.runUntilIdle(10));
+        assertTrue(log.isEmpty());
+    }
+
+    @Test
+    public void speedScalesDelays() {
+        VirtualGameClock clock = new VirtualGameClock();
+        clock.setSpeed(GameSpeed.FAST);
+        clock.schedule(() -> {}, 1000);
+        clock.runUntilIdle(10);
+        assertEquals(250, clock.now());
+
+        clock.setSpeed(GameSpeed.INSTANT);
+        clock.schedule(() -> {}, TurnTimings.DICE_ROLL_MS);
+        clock.runUntilIdle(10);
+        assertEquals(250, clock.now());
+    }
+
+    @Test
+    public void playsATimedGameInMilliseconds() {
+        long start = System.nanoTime();
+        TimedGame normal = new TimedGame(GameSpeed.NORMAL, 42);
+        TimedGame instant = new TimedGame(GameSpeed.INSTANT, 42);
+        long realMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotEquals(0, normal.winner);
+        // Same dice, same game; only the waiting differs
+        assertEquals(normal.winner, instant.winner);
+        assertEquals(normal.runner.getMoves(), instant.runner.getMoves());
+        assertTrue("game took " + normal.clock.now() + " ms of game time", normal.clock.now() > 10 * 60 * 1000);
+        assertEquals(0, instant.clock.now());
+        assertTrue("took " + realMs + " ms", realMs < 2000);
+    }
+
+    // Two computer players on GameRunner's timed turn flow
+    private static final class TimedGame {
+        final VirtualGameClock clock = new VirtualGameClock();
+        final GameRunner runner = new GameRunner(new GameState(2));
+        int winner;
+
+        TimedGame(GameSpeed speed, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            AiPlayer ai = new HeuristicAi();
+            clock.setSpeed(speed);
+            runner.playTimed(new AiPlayer[] {ai, ai}, () -> random.nextInt(6) + 1, clock, w -> winner = w);
+            assertTrue(clock.runUntilIdle(1_000_000));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ExpectiminimaxAiTest {
+
+    @Test
+    public void takesTheKillAndRespectsTheBudget() {
+        // 2 players: Yellow (3) against Green (2)
+        GameState state = new GameState(2);
+        state.setCurrentSeat(1);
+        state.setSteps(3, 0, 5);
+        state.setSteps(3, 1, 30);
+        int target = Board.cellOf(3, 7);
+        state.setSteps(2, 0, Math.floorMod(target - Board.startIndex(2), Board.MAIN_PATH_CELLS));
+        assertNotEquals(0, Rules.capturable(state, 3, target));
+
+        int[] movable = new int[Board.TOKENS];
+        int count = Rules.movableTokens(state, 3, 2, movable);
+        assertEquals(2, count);
+
+        ExpectiminimaxAi ai = new ExpectiminimaxAi(50);
+        long start = System.nanoTime();
+        int choice = ai.chooseMove(state, 3, 2, movable, count);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(0, choice);
+        assertTrue(ai.getCompletedDepth() >= 1);
+        // Only catches a search that ignores its deadline; a loaded machine may take a while
+        assertTrue("took " + elapsedMs + " ms", elapsedMs < 50 * 40);
+    }
+
+    @Test
+    public void stopsWhenInterrupted() {
+        GameState state = new GameState(4);
+        state.setSteps(1, 0, 10);
+        state.setSteps(1, 1, 20);
+        int[] movable = new int[Board.TOKENS];
+        int count = Rules.movableTokens(state, 1, 3, movable);
+
+        ExpectiminimaxAi ai = new ExpectiminimaxAi(10_000);
+        Thread.currentThread().interrupt();
+        try {
+            long start = System.nanoTime();
+            int choice = ai.chooseMove(state, 1, 3, movable, count);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(choice == 0 || choice == 1);
+            // Stopped by the interrupt, not by running out of budget or depth
+            assertTrue(ai.getCompletedDepth() < ExpectiminimaxAi.DEFAULT_MAX_DEPTH);
+            assertTrue("took " + elapsedMs + " ms", elapsedMs < 10_000 / 2);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ludo.ludofun.engine.ai;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MctsAiTest {
+
+    @Test
+    public void takesTheKillWithSeveralWorkers() {
+        // 2 players: Yellow (3) against Green (2)
+        GameState state = new GameState(2);
+        state.setCurrentSeat(1);
+        state.setSteps(3, 0, 5);
+        state.setSteps(3, 1, 30);
+        int target = Board.cellOf(3, 7);
+        state.setSteps(2, 0, Math.floorMod(target - Board.startIndex(2), Board.MAIN_PATH_CELLS));
+
+        int[] movable = new int[Board.TOKENS];
+        int count = Rules.movableTokens(state, 3, 2, movable);
+        assertEquals(2, count);
+
+        MctsAi ai = new MctsAi(200, 2, 1 << 16, 42);
+        try {
+            long start = System.nanoTime();
+            int choice = ai.chooseMove(state, 3, 2, movable, count);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(0, choice);
+            assertTrue(ai.getLastPlayouts() > 0);
+            // Only catches a search that ignores its deadline; a loaded machine may take a while
+            assertTrue("took " + elapsedMs + " ms", elapsedMs < 200 * 20);
+            // The caller's state is left alone
+            assertEquals(5, state.getSteps(3, 0));
+        } finally {
+            ai.shutdown();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ludo.ludofun.engine.ai;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void storedEntryRoundTrips() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(0x1234_5678_9ABCL, 7, TranspositionTable.LOWER, -0.25, 42);
+
+        long entry = table.probe(0x1234_5678_9ABCL);
+        assertNotEquals(0, entry);
+        assertEquals(-0.25, TranspositionTable.value(entry), 1e-6);
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(entry));
+        assertEquals(42, TranspositionTable.move(entry));
+
+        assertEquals(0, table.probe(0x1234_5678_9ABDL));
+        assertEquals(0.5, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void keepsDeeperEntriesOfTheCurrentSearch() {
+        TranspositionTable table = new TranspositionTable(4);
+        // Same bucket: the low bits match
+        long deep = 0x100L, shallow = 0x200L, incoming = 0x300L;
+        table.store(deep, 9, TranspositionTable.EXACT, 0.1, TranspositionTable.NO_MOVE);
+        table.store(shallow, 2, TranspositionTable.EXACT, 0.2, TranspositionTable.NO_MOVE);
+        table.store(incoming, 5, TranspositionTable.EXACT, 0.3, -1);
+
+        assertNotEquals(0, table.probe(deep));
+        assertEquals(0, table.probe(shallow));
+        assertEquals(-1, TranspositionTable.move(table.probe(incoming)));
+
+        // Entries from an older search go before deeper ones
+        table.newSearch();
+        table.store(0x400L, 1, TranspositionTable.EXACT, 0.4, TranspositionTable.NO_MOVE);
+        assertNotEquals(0, table.probe(0x400L));
+        assertEquals(2, table.getReplacements());
+    }
+}
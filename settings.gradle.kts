@@ -24,4 +24,7 @@ dependencyResolutionManagement {
 }
 
 rootProject.name = "LUDOFUN"
-include(":app")
\ No newline at end of file
+include(":app")
+include(":engine")
+include(":simulator")
+include(":benchmark")
\ No newline at end of file
@@ -0,0 +1,32 @@
+plugins {
+    application
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    implementation(project(":engine"))
+    testImplementation(libs.junit)
+}
+
+application {
+    mainClass.set("com.ludo.ludofun.sim.SimulatorCli")
+}
+
+tasks.register<JavaExec>("mctsScaling") {
+    group = "application"
+    description = "Reports MCTS playouts per second for 1..N worker threads."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.ludo.ludofun.sim.MctsScaling")
+}
+
+tasks.register<JavaExec>("generateTablebase") {
+    group = "application"
+    description = "Solves single-colour races and writes the endgame table into the app assets."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.ludo.ludofun.sim.TablebaseGenerator")
+    args(rootProject.file("app/src/main/assets/endgame.ltb").path)
+}
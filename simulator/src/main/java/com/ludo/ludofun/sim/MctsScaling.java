@@ -0,0 +1,122 @@
+package com.ludo.ludofun.sim;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.Rules;
+import com.ludo.ludofun.engine.ai.MctsAi;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Measures MCTS playouts per second for 1..N worker threads.
+ *
+ * <pre>
+ * ./gradlew :simulator:mctsScaling --args="--threads 8 --budget 500"
+ * </pre>
+ *
+ * Each thread count searches the same set of mid-game positions. Options:
+ * --threads N (default: all cores), --budget ms per decision, --positions N,
+ * --seed N.
+ */
+public class MctsScaling {
+
+    // Random moves played from the opening to reach a mid-game position
+    private static final int OPENING_MOVES = 60;
+
+    public static void main(String[] args) {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        long budget = 500;
+        int positions = 8;
+        long seed = 1;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--threads": maxThreads = Integer.parseInt(value(args, ++i, arg)); break;
+                case "--budget": budget = Long.parseLong(value(args, ++i, arg)); break;
+                case "--positions": positions = Integer.parseInt(value(args, ++i, arg)); break;
+                case "--seed": seed = Long.parseLong(value(args, ++i, arg)); break;
+                default:
+                    System.err.println("Unknown option: " + arg);
+                    System.err.println("Usage: MctsScaling [--threads N] [--budget ms] [--positions N] [--seed N]");
+                    System.exit(2);
+            }
+        }
+
+        GameState[] states = new GameState[positions];
+        int[] dice = new int[positions];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < positions; i++) {
+            states[i] = new GameState(4);
+            dice[i] = midGame(states[i], random);
+        }
+
+        System.out.println(String.format(Locale.US, "%d positions, %d ms per decision, %d cores",
+                positions, budget, Runtime.getRuntime().availableProcessors()));
+        int[] movable = new int[Board.TOKENS];
+        // Warm up the JIT so the single-thread baseline is not understated
+        MctsAi warmup = new MctsAi(budget, 1, 1 << 20, seed);
+        for (int i = 0; i < positions; i++) search(warmup, states[i], dice[i], movable);
+
+        System.out.println("Threads  Playouts/s  Speedup  Efficiency");
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads++) {
+            MctsAi ai = new MctsAi(budget, threads, 1 << 20, seed);
+            try {
+                search(ai, states[0], dice[0], movable); // starts the pool threads
+                double total = 0;
+                for (int i = 0; i < positions; i++) {
+                    search(ai, states[i], dice[i], movable);
+                    total += ai.getLastPlayoutsPerSecond();
+                }
+                double rate = total / positions;
+                if (threads == 1) single = rate;
+                System.out.println(String.format(Locale.US, "%7d  %10.0f  %6.2fx  %9.0f%%",
+                        threads, rate, rate / single, rate / single / threads * 100));
+            } finally {
+                ai.shutdown();
+            }
+        }
+    }
+
+    private static void search(MctsAi ai, GameState state, int dice, int[] movable) {
+        int player = state.getCurrentPlayer();
+        int count = Rules.movableTokens(state, player, dice, movable);
+        ai.chooseMove(state, player, dice, movable, count);
+    }
+
+    // Plays random moves into a position where the side to move has a real
+    // choice, and returns the dice it has to play
+    private static int midGame(GameState state, SplittableRandom random) {
+        int[] movable = new int[Board.TOKENS];
+        while (true) {
+            state.reset(4);
+            state.setCurrentSeat(random.nextInt(4) + 1);
+            for (int moves = 0; ; moves++) {
+                int player = state.getCurrentPlayer();
+                int dice;
+                do {
+                    dice = random.nextInt(6) + 1;
+                } while (!Rules.acceptRoll(state, dice));
+                int count = Rules.movableTokens(state, player, dice, movable);
+                if (moves >= OPENING_MOVES && count > 1) return dice;
+                if (count == 0) {
+                    Rules.nextPlayer(state);
+                    continue;
+                }
+                int flags = Rules.applyMove(state, player, movable[random.nextInt(count)], dice);
+                if ((flags & Rules.MOVE_FINISHED_PLAYER) != 0) break; // too late, start over
+                if (!Rules.grantsExtraTurn(flags, dice)) Rules.nextPlayer(state);
+            }
+        }
+    }
+
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length) {
+            System.err.println("Missing value for " + option);
+            System.exit(2);
+        }
+        return args[i];
+    }
+}
@@ -0,0 +1,103 @@
+package com.ludo.ludofun.sim;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.GameRunner;
+import com.ludo.ludofun.engine.Seats;
+
+// Aggregate results of a batch of games. Each worker fills its own instance
+// and the results are merged when the fork/join tasks complete.
+public class SimulationStats {
+
+    // Games longer than this share the last histogram bucket
+    private static final int HISTOGRAM_TURNS = 1000;
+
+    private final int totalPlayers;
+    private long games;
+    private long aborted;
+    private long totalTurns;
+    private long totalMoves;
+    private long totalKills;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+    private final long[] turnHistogram = new long[HISTOGRAM_TURNS + 1];
+    private final long[] winsBySeat = new long[Board.PLAYERS];
+    private final long[] killsBySeat = new long[Board.PLAYERS];
+
+    public SimulationStats(int totalPlayers) {
+        this.totalPlayers = totalPlayers;
+    }
+
+    public void record(GameRunner runner, int winner) {
+        games++;
+        if (winner == 0) {
+            aborted++;
+            return;
+        }
+        int turns = runner.getTurns();
+        totalTurns += turns;
+        totalMoves += runner.getMoves();
+        totalKills += runner.getKills();
+        minTurns = Math.min(minTurns, turns);
+        maxTurns = Math.max(maxTurns, turns);
+        turnHistogram[Math.min(turns, HISTOGRAM_TURNS)]++;
+
+        for (int seat = 1; seat <= totalPlayers; seat++) {
+            int player = Seats.ludoPlayer(totalPlayers, seat);
+            if (player == winner) winsBySeat[seat - 1]++;
+            killsBySeat[seat - 1] += runner.getKillsBy(player);
+        }
+    }
+
+    public void merge(SimulationStats other) {
+        games += other.games;
+        aborted += other.aborted;
+        totalTurns += other.totalTurns;
+        totalMoves += other.totalMoves;
+        totalKills += other.totalKills;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        for (int i = 0; i < turnHistogram.length; i++) turnHistogram[i] += other.turnHistogram[i];
+        for (int i = 0; i < Board.PLAYERS; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+            killsBySeat[i] += other.killsBySeat[i];
+        }
+    }
+
+    public int getTotalPlayers() { return totalPlayers; }
+    public long getGames() { return games; }
+    public long getAborted() { return aborted; }
+    public long getCompleted() { return games - aborted; }
+    public int getMinTurns() { return getCompleted() == 0 ? 0 : minTurns; }
+    public int getMaxTurns() { return maxTurns; }
+
+    public double getMeanTurns() {
+        return getCompleted() == 0 ? 0 : (double) totalTurns / getCompleted();
+    }
+
+    public double getMeanMoves() {
+        return getCompleted() == 0 ? 0 : (double) totalMoves / getCompleted();
+    }
+
+    public double getMeanKills() {
+        return getCompleted() == 0 ? 0 : (double) totalKills / getCompleted();
+    }
+
+    // Game length (turns) at the given percentile, 0..100
+    public int getTurnsPercentile(double percentile) {
+        long rank = (long) Math.ceil(percentile / 100.0 * getCompleted());
+        long seen = 0;
+        for (int turns = 0; turns < turnHistogram.length; turns++) {
+            seen += turnHistogram[turns];
+            if (seen >= rank && seen > 0) return turns;
+        }
+        return maxTurns;
+    }
+
+    public double getWinRate(int seat) {
+        return getCompleted() == 0 ? 0 : (double) winsBySeat[seat - 1] / getCompleted();
+    }
+
+    public double getMeanKillsBySeat(int seat) {
+        return getCompleted() == 0 ? 0 : (double) killsBySeat[seat - 1] / getCompleted();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ludo.ludofun.sim;
+
+import com.ludo.ludofun.engine.Dice;
+import com.ludo.ludofun.engine.GameRunner;
+import com.ludo.ludofun.engine.GameState;
+import com.ludo.ludofun.engine.ai.AiPlayer;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Spreads games over a fork/join pool. Ranges are split until they are at most
+// batchSize games; each leaf reuses one state, runner and set of AIs.
+public class Simulator {
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final int totalPlayers;
+    private final String[] strategies;
+    private final long seed;
+    private final int batchSize;
+
+    // strategies holds one strategy name per logical seat
+    public Simulator(int totalPlayers, String[] strategies, long seed, int batchSize) {
+        if (strategies.length != totalPlayers) {
+            throw new IllegalArgumentException("Need " + totalPlayers + " strategies, got " + strategies.length);
+        }
+        this.totalPlayers = totalPlayers;
+        this.strategies = strategies.clone();
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    public SimulationStats run(long games, ForkJoinPool pool) {
+        return pool.invoke(new Batch(0, games));
+    }
+
+    private SimulationStats playRange(long from, long to) {
+        // Seeded by range so a run is reproducible for a given seed and batch size
+        SplittableRandom random = new SplittableRandom(seed ^ (from * 0x9E3779B97F4A7C15L));
+        AiPlayer[] seats = new AiPlayer[totalPlayers];
+        for (int i = 0; i < totalPlayers; i++) seats[i] = Strategies.create(strategies[i], random);
+        Dice dice = () -> random.nextInt(6) + 1;
+
+        GameState state = new GameState(totalPlayers);
+        GameRunner runner = new GameRunner(state);
+        SimulationStats stats = new SimulationStats(totalPlayers);
+        try {
+            for (long g = from; g < to; g++) {
+                state.reset(totalPlayers);
+                state.setCurrentSeat(random.nextInt(totalPlayers) + 1);
+                stats.record(runner, runner.play(seats, dice));
+            }
+        } finally {
+            for (AiPlayer ai : seats) Strategies.release(ai);
+        }
+        return stats;
+    }
+
+    @SuppressWarnings("serial")
+    private class Batch extends RecursiveTask<SimulationStats> {
+        private final long from, to;
+
+        Batch(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= batchSize) return playRange(from, to);
+            long mid = (from + to) >>> 1;
+            Batch left = new Batch(from, mid);
+            left.fork();
+            SimulationStats right = new Batch(mid, to).compute();
+            SimulationStats result = left.join();
+            result.merge(right);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ludo.ludofun.sim;
+
+import com.ludo.ludofun.engine.Seats;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless Ludo simulator.
+ *
+ * <pre>
+ * ./gradlew :simulator:run --args="--games 1000000 --players 4 --ai heuristic,random"
+ * </pre>
+ *
+ * Options: --games N, --players 2|3|4, --ai name[,name...] (one per seat, the last
+ * one repeats), --threads N (default: all cores), --seed N, --batch N.
+ */
+public class SimulatorCli {
+
+    public static void main(String[] args) {
+        long games = 100_000;
+        int players = 4;
+        String ai = Strategies.HEURISTIC;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int batch = Simulator.DEFAULT_BATCH_SIZE;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--games": games = Long.parseLong(value(args, ++i, arg)); break;
+                case "--players": players = Integer.parseInt(value(args, ++i, arg)); break;
+                case "--ai": ai = value(args, ++i, arg); break;
+                case "--threads": threads = Integer.parseInt(value(args, ++i, arg)); break;
+                case "--seed": seed = Long.parseLong(value(args, ++i, arg)); break;
+                case "--batch": batch = Integer.parseInt(value(args, ++i, arg)); break;
+                case "--help":
+                    usage();
+                    return;
+                default:
+                    System.err.println("Unknown option: " + arg);
+                    usage();
+                    System.exit(2);
+            }
+        }
+        if (players < 2 || players > 4) {
+            System.err.println("--players must be 2, 3 or 4");
+            System.exit(2);
+        }
+
+        String[] strategies = seatStrategies(ai, players);
+        Simulator simulator = new Simulator(players, strategies, seed, batch);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            SimulationStats stats = simulator.run(games, pool);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            print(stats, strategies, threads, seed, seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String[] seatStrategies(String ai, int players) {
+        String[] names = ai.split(",");
+        String[] strategies = new String[players];
+        for (int i = 0; i < players; i++) {
+            strategies[i] = names[Math.min(i, names.length - 1)].trim();
+        }
+        return strategies;
+    }
+
+    private static void print(SimulationStats stats, String[] strategies, int threads, long seed, double seconds) {
+        int players = stats.getTotalPlayers();
+        System.out.println(String.format(Locale.US, "Games        %,d (%,d aborted) on %d threads, seed %d",
+                stats.getGames(), stats.getAborted(), threads, seed));
+        System.out.println(String.format(Locale.US, "Throughput   %,.0f games/s (%.2f s)",
+                stats.getGames() / seconds, seconds));
+        System.out.println(String.format(Locale.US, "Game length  mean %.1f turns, p50 %d, p95 %d, min %d, max %d, %.1f moves",
+                stats.getMeanTurns(), stats.getTurnsPercentile(50), stats.getTurnsPercentile(95),
+                stats.getMinTurns(), stats.getMaxTurns(), stats.getMeanMoves()));
+        System.out.println(String.format(Locale.US, "Kills        %.2f per game", stats.getMeanKills()));
+        System.out.println("Seat  Colour  Strategy     Win rate  Kills/game");
+        for (int seat = 1; seat <= players; seat++) {
+            System.out.println(String.format(Locale.US, "%-5d %-7s %-12s %7.2f%%  %10.2f",
+                    seat, colourName(Seats.ludoPlayer(players, seat)), strategies[seat - 1],
+                    stats.getWinRate(seat) * 100, stats.getMeanKillsBySeat(seat)));
+        }
+    }
+
+    private static String colourName(int player) {
+        switch (player) {
+            case 1: return "RED";
+            case 2: return "GREEN";
+            case 3: return "YELLOW";
+            case 4: return "BLUE";
+            default: return "UNKNOWN";
+        }
+    }
+
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length) {
+            System.err.println("Missing value for " + option);
+            System.exit(2);
+        }
+        return args[i];
+    }
+
+    private static void usage() {
+        System.out.println("Usage: SimulatorCli [--games N] [--players 2|3|4] [--ai name[,name...]]"
+                + " [--threads N] [--seed N] [--batch N]");
+        System.out.println("Strategies: " + Strategies.names());
+    }
+}
@@ -0,0 +1,48 @@
+package com.ludo.ludofun.sim;
+
+import com.ludo.ludofun.engine.ai.AiPlayer;
+import com.ludo.ludofun.engine.ai.ExpectiminimaxAi;
+import com.ludo.ludofun.engine.ai.HeuristicAi;
+import com.ludo.ludofun.engine.ai.MctsAi;
+import com.ludo.ludofun.engine.ai.RandomAi;
+
+import java.util.SplittableRandom;
+
+// Strategy names accepted on the command line. Search strategies take their
+// per-move budget in milliseconds after a colon, e.g. "expectiminimax:100".
+// MCTS also takes a worker count: "mcts:100:4". The simulator already runs one
+// game per core, so it defaults to searching on the calling thread.
+public final class Strategies {
+
+    public static final String HEURISTIC = "heuristic";
+    public static final String RANDOM = "random";
+    public static final String EXPECTIMINIMAX = "expectiminimax";
+    public static final String MCTS = "mcts";
+
+    private static final long DEFAULT_BUDGET_MS = 20;
+
+    private Strategies() {}
+
+    public static AiPlayer create(String spec, SplittableRandom random) {
+        String[] parts = spec.split(":");
+        String name = parts[0];
+        long budget = parts.length > 1 ? Long.parseLong(parts[1]) : DEFAULT_BUDGET_MS;
+        int threads = parts.length > 2 ? Integer.parseInt(parts[2]) : 1;
+        switch (name) {
+            case HEURISTIC: return new HeuristicAi();
+            case RANDOM: return new RandomAi(random.split());
+            case EXPECTIMINIMAX: return new ExpectiminimaxAi(budget);
+            case MCTS: return new MctsAi(budget, threads, 1 << 18, random.nextLong());
+            default: throw new IllegalArgumentException("Unknown strategy: " + spec);
+        }
+    }
+
+    // Stops any worker threads the strategy started
+    public static void release(AiPlayer ai) {
+        if (ai instanceof MctsAi) ((MctsAi) ai).shutdown();
+    }
+
+    public static String names() {
+        return HEURISTIC + ", " + RANDOM + ", " + EXPECTIMINIMAX + "[:ms], " + MCTS + "[:ms[:threads]]";
+    }
+}
@@ -0,0 +1,131 @@
+package com.ludo.ludofun.sim;
+
+import com.ludo.ludofun.engine.Board;
+import com.ludo.ludofun.engine.Rules;
+import com.ludo.ludofun.engine.Tablebase;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Solves every single-colour race position and writes the table read by
+ * {@link Tablebase}.
+ *
+ * <pre>
+ * ./gradlew :simulator:generateTablebase
+ * </pre>
+ *
+ * Every move adds progress, so positions are solved from the most advanced
+ * down and each one only depends on solved positions and on itself (a roll
+ * with no legal move). For the turn-start value T and the values W1, W2 after
+ * one or two sixes, each roll is linear in T: W = a + b * T, with b the share
+ * of faces that cannot move. T = 1 + W0 then gives T = (1 + a0) / (1 - b0).
+ */
+public class TablebaseGenerator {
+
+    private static final int VALUES = Board.STEP_VALUES;
+
+    // Turn-start value, and mid-turn values after one and two sixes
+    private final double[] turns = new double[Tablebase.POSITIONS];
+    private final double[] oneSix = new double[Tablebase.POSITIONS];
+    private final double[] twoSixes = new double[Tablebase.POSITIONS];
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TablebaseGenerator <output file>");
+            System.exit(2);
+        }
+        long start = System.nanoTime();
+        TablebaseGenerator generator = new TablebaseGenerator();
+        generator.solve();
+        int scale = generator.write(new File(args[0]));
+        System.out.println(String.format(Locale.US, "%,d positions in %.1f s, start position %.3f turns, 1/%d turn resolution",
+                Tablebase.POSITIONS, (System.nanoTime() - start) / 1e9,
+                generator.turns[Tablebase.index(-1, -1, -1, -1)], scale));
+    }
+
+    private void solve() {
+        int[] s = new int[Board.TOKENS];
+        int maxProgress = Board.TOKENS * (VALUES - 1);
+        // Positions with the same progress never reach each other
+        for (int progress = maxProgress; progress >= 0; progress--) {
+            for (int a = 0; a < VALUES; a++) {
+                for (int b = a; b < VALUES; b++) {
+                    for (int c = b; c < VALUES; c++) {
+                        int d = progress - a - b - c;
+                        if (d < c || d >= VALUES) continue;
+                        s[0] = a - 1;
+                        s[1] = b - 1;
+                        s[2] = c - 1;
+                        s[3] = d - 1;
+                        solvePosition(s);
+                    }
+                }
+            }
+        }
+    }
+
+    private void solvePosition(int[] s) {
+        int index = Tablebase.index(s[0], s[1], s[2], s[3]);
+        if (s[0] == Board.GOAL) return; // sorted, so everyone is home: 0 turns
+
+        // Coefficients of W = a + b * T for 0, 1 and 2 sixes so far
+        double[] a = new double[3];
+        double[] b = new double[3];
+        for (int sixes = 0; sixes <= Rules.MAX_CONSECUTIVE_SIXES; sixes++) {
+            int faces = sixes >= Rules.MAX_CONSECUTIVE_SIXES ? 5 : 6;
+            for (int dice = 1; dice <= faces; dice++) {
+                double best = Double.POSITIVE_INFINITY;
+                for (int token = 0; token < Board.TOKENS; token++) {
+                    if (!Rules.canMove(s[token], dice)) continue;
+                    best = Math.min(best, moveValue(s, token, dice, sixes + 1));
+                }
+                if (best == Double.POSITIVE_INFINITY) {
+                    b[sixes] += 1.0 / faces;
+                } else {
+                    a[sixes] += best / faces;
+                }
+            }
+        }
+        double t = (1 + a[0]) / (1 - b[0]);
+        turns[index] = t;
+        oneSix[index] = a[1] + b[1] * t;
+        twoSixes[index] = a[2] + b[2] * t;
+    }
+
+    // Same as Tablebase.moveValue, on the exact values
+    private double moveValue(int[] s, int token, int dice, int sixes) {
+        int from = s[token];
+        int target = Rules.targetSteps(from, dice);
+        s[token] = target;
+        int index = Tablebase.index(s[0], s[1], s[2], s[3]);
+        boolean done = s[0] == Board.GOAL && s[1] == Board.GOAL && s[2] == Board.GOAL && s[3] == Board.GOAL;
+        s[token] = from;
+
+        if (done) return 0;
+        if (dice == 6) return sixes == 1 ? oneSix[index] : twoSixes[index];
+        return target == Board.GOAL ? turns[index] - 1 : turns[index];
+    }
+
+    // Writes the table with the finest power-of-two resolution that fits in 16 bits
+    private int write(File file) throws IOException {
+        double max = 0;
+        for (double t : turns) max = Math.max(max, t);
+        int scale = Integer.highestOneBit((int) (0xFFFF / max));
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) throw new IOException("Cannot create " + parent);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(Tablebase.MAGIC);
+            out.writeInt(Tablebase.VERSION);
+            out.writeInt(Tablebase.POSITIONS);
+            out.writeInt(scale);
+            for (double t : turns) out.writeChar((int) Math.round(t * scale));
+        }
+        return scale;
+    }
+}